@@ -0,0 +1,139 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load against a running instance, used by virtual_threads_benchmark.sh to compare thread modes
+ * and by reactive_benchmark.sh to compare the servlet and the reactive stack.
+ * Each worker mixes todo listing (JDBC bound) with logins (BCrypt bound) and records every latency.
+ *
+ * Usage: java script/ThreadModeBenchmark.java <base-url> <concurrency> <seconds> <label>
+ */
+public class ThreadModeBenchmark {
+  private static final Pattern TOKEN = Pattern.compile("\"authToken\"\\s*:\\s*\"([^\"]+)\"");
+  private static final int LOGIN_PERCENT = 10;
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+    int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+    String label = args.length > 3 ? args[3] : "default";
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    String email = "load-" + UUID.randomUUID() + "@test.in";
+    String credentials = String.format("{\"email\":\"%s\",\"password\":\"Load@24\"}", email);
+
+    String token = token(send(client, post(baseUrl + "/todo-api/v1/auth/sign-up", credentials, null)));
+    for (int i = 0; i < 50; i++) {
+      send(client, post(baseUrl + "/todo-api/v1/todo", "{\"title\":\"load todo " + i + "\"}", token));
+    }
+
+    long warmupEnd = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    long end = warmupEnd + Duration.ofSeconds(seconds).toNanos();
+
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    Future<?>[] futures = new Future<?>[concurrency];
+    Recorder[] recorders = new Recorder[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      Recorder recorder = recorders[i] = new Recorder();
+      futures[i] = workers.submit(() -> {
+        while (System.nanoTime() < end) {
+          boolean login = ThreadLocalRandom.current().nextInt(100) < LOGIN_PERCENT;
+          HttpRequest request = login
+            ? post(baseUrl + "/todo-api/v1/auth/login", credentials, null)
+            : get(baseUrl + "/todo-api/v1/todo?limit=20", token);
+
+          long start = System.nanoTime();
+          int status;
+          try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+          } catch (Exception e) {
+            status = -1;
+          }
+
+          if (start >= warmupEnd) {
+            recorder.record(System.nanoTime() - start, status == 200);
+          }
+        }
+        return null;
+      });
+    }
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    workers.shutdown();
+
+    long[] latencies = Arrays.stream(recorders).flatMapToLong(Recorder::latencies).sorted().toArray();
+    long errors = Arrays.stream(recorders).mapToLong(recorder -> recorder.errors).sum();
+
+    System.out.printf("%-16s concurrency=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+      label, concurrency, latencies.length, errors, latencies.length / (double) seconds,
+      percentile(latencies, 50), percentile(latencies, 99), percentile(latencies, 100));
+  }
+
+  private static HttpRequest get(String url, String token) {
+    return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token).GET().build();
+  }
+
+  private static HttpRequest post(String url, String body, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+      .header("Content-Type", "application/json")
+      .POST(HttpRequest.BodyPublishers.ofString(body));
+    return token == null ? builder.build() : builder.header("Authorization", "Bearer " + token).build();
+  }
+
+  private static String send(HttpClient client, HttpRequest request) throws Exception {
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() >= 300) {
+      throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+    }
+    return response.body();
+  }
+
+  private static String token(String body) {
+    Matcher matcher = TOKEN.matcher(body);
+    if (!matcher.find()) {
+      throw new IllegalStateException("No authToken in " + body);
+    }
+    return matcher.group(1);
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  private static class Recorder {
+    private long[] latencies = new long[1 << 12];
+    private int size;
+    private long errors;
+
+    void record(long nanos, boolean ok) {
+      if (!ok) {
+        errors++;
+      }
+      if (size == latencies.length) {
+        latencies = Arrays.copyOf(latencies, size * 2);
+      }
+      latencies[size++] = nanos;
+    }
+
+    java.util.stream.LongStream latencies() {
+      return Arrays.stream(latencies, 0, size);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+#!/bin/bash
+# Measures what logging costs per request: the load test runs once with logging off, once at INFO and once at
+# INFO with the SQL of every request logged, all through the async appenders of logback.xml.
+# Needs POSTGRES_USERNAME/POSTGRES_PASSWORD (or .env) like a normal run, or pass testcontainers=true.
+# Usage: script/logging_benchmark.sh [rate] [seconds] [extra load test options]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RATE=${1:-100}
+DURATION=${2:-60}
+shift $(( $# > 2 ? 2 : $# ))
+
+run() {
+  local name=$1
+  shift
+  echo "== $name"
+  ./mvnw -q -B -Ploadtest test-compile exec:exec \
+    -Dloadtest.args="rate=$RATE duration=$DURATION output=target/loadtest-logging-$name $* ${EXTRA[*]}" \
+    | tee "target/loadtest-logging-$name.txt"
+}
+
+EXTRA=("$@")
+mkdir -p target
+run off logging=off
+run info logging=info
+run sql logging=info sql-log-sample-rate=1
+
+echo "== Overall latency (corrected p99 ms, raw p99 ms)"
+for name in off info sql; do
+  awk -v name="$name" '$1 == "all" { printf "%-5s %9s %9s\n", name, $6, $9 }' "target/loadtest-logging-$name.txt"
+done
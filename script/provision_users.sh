@@ -0,0 +1,26 @@
+#!/bin/bash
+# Provisions users from a CSV of email,password lines into the configured database, or generates
+# N synthetic users first to measure throughput. Needs POSTGRES_USERNAME/POSTGRES_PASSWORD (or .env).
+# Usage: script/provision_users.sh users.csv
+#        script/provision_users.sh --generate 1000000 [--prehashed]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CSV=${1:?csv file or --generate N}
+if [ "$CSV" = "--generate" ]; then
+  COUNT=${2:?number of users}
+  CSV=target/provision-users.csv
+  mkdir -p target
+  if [ "${3:-}" = "--prehashed" ]; then
+    # Hash of `Password@24` at strength 10, measures COPY throughput without hashing.
+    PASSWORD='$2a$10$RVLvybbeb0cvGigcsJc6S.bcZAHz1A4BQaiQK4xX/sI1tTkswP8Nm'
+  else
+    PASSWORD='Password@24'
+  fi
+  awk -v n="$COUNT" -v p="$PASSWORD" 'BEGIN { print "email,password"; for (i = 1; i <= n; i++) printf "user%d@provision.test,%s\n", i, p }' > "$CSV"
+fi
+
+./mvnw -q package -DskipTests
+JAR=$(ls target/todo-*.jar | grep -v original | head -1)
+
+java -jar "$JAR" --spring.main.web-application-type=none --spring.jpa.show-sql=false --provision.users-csv="$CSV"
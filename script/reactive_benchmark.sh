@@ -0,0 +1,59 @@
+#!/bin/bash
+# Compares the servlet (Tomcat + JPA) and the reactive (Netty + R2DBC) stack under the same load against a local Postgres.
+# Reports throughput and latency from ThreadModeBenchmark, plus the server's resident memory and thread count
+# sampled while the load runs. Memory per connection is (peak RSS - idle RSS) / concurrency.
+# Needs POSTGRES_USERNAME/POSTGRES_PASSWORD (or .env) like a normal run.
+# Usage: script/reactive_benchmark.sh [concurrency] [seconds]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${1:-400}
+DURATION=${2:-30}
+PORT=${PORT:-8099}
+
+./mvnw -q package -DskipTests
+JAR=$(ls target/todo-*.jar | grep -v original | head -1)
+
+rss_kb() {
+  awk '/^VmRSS/ { print $2 }' "/proc/$1/status"
+}
+
+threads() {
+  awk '/^Threads/ { print $2 }' "/proc/$1/status"
+}
+
+run() {
+  local profile=$1
+  java -Xmx512m -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profile" --spring.jpa.show-sql=false > "target/benchmark-$profile.log" 2>&1 &
+  local pid=$!
+
+  until curl -s -o /dev/null "http://localhost:$PORT/todo-api/v1/auth/login"; do
+    kill -0 "$pid" 2>/dev/null || { echo "$profile failed to start, see target/benchmark-$profile.log"; exit 1; }
+    sleep 1
+  done
+
+  local idle_rss idle_threads
+  idle_rss=$(rss_kb "$pid")
+  idle_threads=$(threads "$pid")
+
+  local samples="target/benchmark-$profile.samples"
+  : > "$samples"
+  (while kill -0 "$pid" 2>/dev/null; do echo "$(rss_kb "$pid") $(threads "$pid")" >> "$samples"; sleep 1; done) &
+  local sampler=$!
+
+  java script/ThreadModeBenchmark.java "http://localhost:$PORT" "$CONCURRENCY" "$DURATION" "$profile"
+
+  kill "$sampler" 2>/dev/null || true
+  local peak_rss peak_threads
+  peak_rss=$(sort -n -k1 "$samples" | tail -1 | cut -d' ' -f1)
+  peak_threads=$(sort -n -k2 "$samples" | tail -1 | cut -d' ' -f2)
+
+  awk -v profile="$profile" -v idle="$idle_rss" -v peak="$peak_rss" -v from="$idle_threads" -v to="$peak_threads" -v n="$CONCURRENCY" \
+    'BEGIN { printf "%-16s idle_rss=%d MB peak_rss=%d MB threads=%d->%d memory_per_connection=%.1f KB\n", profile, idle / 1024, peak / 1024, from, to, (peak - idle) / n }'
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run default
+run reactive
@@ -0,0 +1,51 @@
+-- Compares index size and point-lookup latency of varchar(255) and native uuid keys on a seeded table.
+-- Run against a scratch database, e.g.
+--   docker compose exec -T postgres psql -U postgres -d todo-db -v rows=1000000 -f - < script/uuid_index_benchmark.sql
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+
+drop table if exists uuid_bench_varchar, uuid_bench_native;
+
+create table uuid_bench_native (id bigint primary key, uuid uuid not null);
+create table uuid_bench_varchar (id bigint primary key, uuid varchar(255) not null);
+
+insert into uuid_bench_native select i, gen_random_uuid() from generate_series(1, :rows) i;
+insert into uuid_bench_varchar select id, uuid::text from uuid_bench_native;
+
+create unique index uuid_bench_native_key on uuid_bench_native (uuid);
+create unique index uuid_bench_varchar_key on uuid_bench_varchar (uuid);
+
+vacuum analyze uuid_bench_native;
+vacuum analyze uuid_bench_varchar;
+
+select 'varchar' as key_type, pg_size_pretty(pg_relation_size('uuid_bench_varchar_key')) as index_size, pg_size_pretty(pg_table_size('uuid_bench_varchar')) as table_size
+union all
+select 'uuid', pg_size_pretty(pg_relation_size('uuid_bench_native_key')), pg_size_pretty(pg_table_size('uuid_bench_native'));
+
+-- 100k random point lookups through each index, reported as microseconds per lookup.
+do $$
+declare
+  keys uuid[];
+  text_keys text[];
+  started timestamptz;
+  found bigint;
+begin
+  select array_agg(uuid), array_agg(uuid::text) into keys, text_keys from (select uuid from uuid_bench_native order by random() limit 100000) k;
+
+  started := clock_timestamp();
+  for i in 1 .. array_length(keys, 1) loop
+    select id into found from uuid_bench_varchar where uuid = text_keys[i];
+  end loop;
+  raise notice 'varchar lookup: % us', round((extract(epoch from clock_timestamp() - started) * 1e6 / array_length(keys, 1))::numeric, 2);
+
+  started := clock_timestamp();
+  for i in 1 .. array_length(keys, 1) loop
+    select id into found from uuid_bench_native where uuid = keys[i];
+  end loop;
+  raise notice 'uuid lookup: % us', round((extract(epoch from clock_timestamp() - started) * 1e6 / array_length(keys, 1))::numeric, 2);
+end $$;
+
+drop table uuid_bench_varchar, uuid_bench_native;
@@ -0,0 +1,36 @@
+#!/bin/bash
+# Compares platform and virtual thread request handling at high concurrency against a local Postgres.
+# Needs Java 21 and POSTGRES_USERNAME/POSTGRES_PASSWORD (or .env) like a normal run.
+# Usage: script/virtual_threads_benchmark.sh [concurrency] [seconds]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${1:-400}
+DURATION=${2:-30}
+PORT=${PORT:-8099}
+
+./mvnw -q -Pjava21 package -DskipTests
+JAR=$(ls target/todo-*.jar | grep -v original | head -1)
+
+run() {
+  local profile=$1
+  shift
+  java "$@" -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profile" --spring.jpa.show-sql=false > "target/benchmark-$profile.log" 2>&1 &
+  local pid=$!
+
+  until curl -s -o /dev/null "http://localhost:$PORT/todo-api/v1/auth/login"; do
+    kill -0 "$pid" 2>/dev/null || { echo "$profile failed to start, see target/benchmark-$profile.log"; exit 1; }
+    sleep 1
+  done
+
+  java script/ThreadModeBenchmark.java "http://localhost:$PORT" "$CONCURRENCY" "$DURATION" "$profile"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run default
+run virtual-threads -Djdk.tracePinnedThreads=short
+
+if grep -q "onPinned\|<== monitors" target/benchmark-virtual-threads.log; then
+  echo "Pinned virtual threads detected, see target/benchmark-virtual-threads.log"
+fi
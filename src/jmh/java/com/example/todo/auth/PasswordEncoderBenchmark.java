@@ -0,0 +1,52 @@
+package com.example.todo.auth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost per hash at several strengths, each step doubles it. One login is one {@code matches},
+ * so {@code password.hashing-threads} divided by its time is the login capacity at that strength.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+  private static final String PASSWORD = "Jhon@24";
+
+  @Param({"4", "8", "10", "12"})
+  private int strength;
+
+  private BCryptPasswordEncoder passwordEncoder;
+  private String hash;
+
+  @Setup
+  public void setup() {
+    passwordEncoder = new BCryptPasswordEncoder(strength);
+    hash = passwordEncoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public String encode() {
+    return passwordEncoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return passwordEncoder.matches(PASSWORD, hash);
+  }
+}
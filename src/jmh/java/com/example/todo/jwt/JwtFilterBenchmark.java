@@ -0,0 +1,71 @@
+package com.example.todo.jwt;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.todo.user.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * One authenticated pass through {@link JwtFilter}: parse or cache lookup, revocation check and
+ * building the security context, ending in a chain that only reads the authentication back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+  private static final String SECRET_KEY = "815F1298534CA2989B84C1C2F48D4609E7A05811E0700653661466A6";
+
+  @Param({"0", "10000"})
+  private int cacheSize;
+
+  private JwtFilter jwtFilter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private FilterChain filterChain;
+  private Authentication authentication;
+
+  @Setup
+  public void setup() {
+    JwtService jwtService = new JwtService(SECRET_KEY, 3600, cacheSize, new SimpleMeterRegistry());
+    TokenRevocationService tokenRevocationService = new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), 3600, 100_000);
+    jwtFilter = new JwtFilter(jwtService, tokenRevocationService, (request, response, handler, e) -> null);
+
+    User user = User.builder().id(101L).uuid(UUID.fromString("d3b07384-d9a0-4c9b-8f2e-1f6b2e5c7a10")).email("jhondoe@test.in").build();
+    request = new MockHttpServletRequest("GET", "/todo-api/v1/todo");
+    request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+    response = new MockHttpServletResponse();
+    filterChain = (request, response) -> authentication = SecurityContextHolder.getContext().getAuthentication();
+  }
+
+  @Benchmark
+  public Authentication authenticate() throws ServletException, IOException {
+    jwtFilter.doFilterInternal(request, response, filterChain);
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.todo.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.todo.user.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the filter's token verification before and after the single-parse change.
+ * {@code legacyFilterPath} mirrors the old getUsername + isValid sequence, which parsed
+ * the token three times and decoded the key and built a parser on every parse.
+ * Token generation and the public {@code isValid} entry point are measured alongside.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+  private static final String SECRET_KEY = "815F1298534CA2989B84C1C2F48D4609E7A05811E0700653661466A6";
+
+  private JwtService uncachedJwtService;
+  private JwtService cachedJwtService;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setup() {
+    uncachedJwtService = new JwtService(SECRET_KEY, 3600, 0, new SimpleMeterRegistry());
+    cachedJwtService = new JwtService(SECRET_KEY, 3600, 10_000, new SimpleMeterRegistry());
+    user = User.builder().id(101L).uuid(UUID.fromString("d3b07384-d9a0-4c9b-8f2e-1f6b2e5c7a10")).email("jhondoe@test.in").build();
+    token = cachedJwtService.generateToken(user);
+  }
+
+  @Benchmark
+  public boolean legacyFilterPath() {
+    String username = legacyClaims(token).getSubject();
+    return user.getUsername().equals(username)
+      && user.getUsername().equals(legacyClaims(token).getSubject())
+      && !legacyClaims(token).getExpiration().before(new java.util.Date());
+  }
+
+  @Benchmark
+  public boolean singleParse() {
+    return uncachedJwtService.isValid(user, uncachedJwtService.parse(token));
+  }
+
+  @Benchmark
+  public boolean cachedParse() {
+    return cachedJwtService.isValid(user, cachedJwtService.parse(token));
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return cachedJwtService.generateToken(user);
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return uncachedJwtService.isValid(user, token);
+  }
+
+  @Benchmark
+  public boolean cachedIsValid() {
+    return cachedJwtService.isValid(user, token);
+  }
+
+  private Claims legacyClaims(String token) {
+    return Jwts.parserBuilder()
+      .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+      .build()
+      .parseClaimsJws(token)
+      .getBody();
+  }
+}
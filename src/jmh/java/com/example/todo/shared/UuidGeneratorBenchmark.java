@@ -0,0 +1,50 @@
+package com.example.todo.shared;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares random (v4) and time-ordered (v7) id generation from a single thread and
+ * under contention, where v4 shares one {@code SecureRandom} across all threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidGeneratorBenchmark {
+  @Param({"4", "7"})
+  private int version;
+
+  private UuidGenerator uuidGenerator;
+
+  @Setup
+  public void setup() {
+    uuidGenerator = new UuidGenerator(version);
+  }
+
+  @Benchmark
+  public UUID singleThread() {
+    return uuidGenerator.randomUUID();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID contended() {
+    return uuidGenerator.randomUUID();
+  }
+}
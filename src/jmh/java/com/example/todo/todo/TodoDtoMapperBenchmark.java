@@ -0,0 +1,41 @@
+package com.example.todo.todo;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoDtoMapperBenchmark {
+  private TodoDtoMapper todoDtoMapper;
+  private Todo todo;
+
+  @Setup
+  public void setup() {
+    todoDtoMapper = new TodoDtoMapper();
+    todo = Todo.builder()
+      .uuid(UUID.fromString("d3b07384-d9a0-4c9b-8f2e-1f6b2e5c7a10"))
+      .title("First Todo of the List.")
+      .status(Status.PENDING)
+      .build();
+  }
+
+  @Benchmark
+  public TodoResponseDto todoToDto() {
+    return todoDtoMapper.todoToDto(todo);
+  }
+}
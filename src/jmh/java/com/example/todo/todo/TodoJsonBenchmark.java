@@ -0,0 +1,66 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes todo lists as JSON with the mapper settings Spring Boot applies by default,
+ * from a single todo up to a large unpaged list. Every other todo has no updatedAt, as after creation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoJsonBenchmark {
+  @Param({"1", "20", "100", "1000"})
+  private int size;
+
+  private ObjectWriter objectWriter;
+  private List<TodoResponseDto> todos;
+
+  @Setup
+  public void setup() {
+    objectWriter = Jackson2ObjectMapperBuilder.json()
+      .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build()
+      .writerFor(List.class);
+
+    Instant createdAt = Instant.parse("2024-10-01T10:15:30.123456Z");
+    todos = IntStream.range(0, size)
+      .mapToObj(i -> new TodoResponseDto(
+        UUID.randomUUID(),
+        "Todo number " + i + " of the list",
+        Status.values()[i % Status.values().length],
+        createdAt.plusSeconds(i),
+        i % 2 == 0 ? null : createdAt.plusSeconds(i + 60)
+      ))
+      .toList();
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectWriter.writeValueAsBytes(todos);
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.todo.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies per operation in microseconds. The corrected histogram measures from the time a request was
+ * scheduled to be sent, so a stalled server is charged for every request that queued up behind it; the
+ * raw one measures from the actual send, which is what a closed-loop client would report.
+ */
+class LatencyStats {
+  private static final int SIGNIFICANT_DIGITS = 3;
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final Map<Operation, Histogram> corrected = new EnumMap<>(Operation.class);
+  private final Map<Operation, Histogram> raw = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+  LatencyStats() {
+    for (Operation operation : Operation.values()) {
+      corrected.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+      raw.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  void record(Operation operation, long correctedNanos, long rawNanos, boolean ok) {
+    corrected.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(correctedNanos));
+    raw.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(rawNanos));
+    if (!ok) {
+      errors.get(operation).increment();
+    }
+  }
+
+  /** Prints one line per operation and a total, returns the corrected p99 of all requests in milliseconds. */
+  double report(PrintStream out, double seconds) {
+    out.printf("%-20s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "raw p99");
+
+    Histogram allCorrected = new Histogram(SIGNIFICANT_DIGITS);
+    Histogram allRaw = new Histogram(SIGNIFICANT_DIGITS);
+    long allErrors = 0;
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = corrected.get(operation);
+      long operationErrors = errors.get(operation).sum();
+      line(out, operation.endpoint(), histogram, raw.get(operation), operationErrors, seconds);
+
+      allCorrected.add(histogram);
+      allRaw.add(raw.get(operation));
+      allErrors += operationErrors;
+    }
+
+    line(out, "all", allCorrected, allRaw, allErrors, seconds);
+    return allCorrected.getValueAtPercentile(99) / MICROS_PER_MILLI;
+  }
+
+  /** Writes the full corrected distribution of every operation as .hgrm files, which HdrHistogram's plotter reads. */
+  void write(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    for (Operation operation : Operation.values()) {
+      try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operation.name().toLowerCase() + ".hgrm")))) {
+        corrected.get(operation).outputPercentileDistribution(out, MICROS_PER_MILLI);
+      }
+    }
+  }
+
+  private static void line(PrintStream out, String endpoint, Histogram corrected, Histogram raw, long errors, double seconds) {
+    out.printf("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+      endpoint, corrected.getTotalCount(), errors, corrected.getTotalCount() / seconds,
+      corrected.getValueAtPercentile(50) / MICROS_PER_MILLI,
+      corrected.getValueAtPercentile(99) / MICROS_PER_MILLI,
+      corrected.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+      corrected.getMaxValue() / MICROS_PER_MILLI,
+      raw.getValueAtPercentile(99) / MICROS_PER_MILLI);
+  }
+}
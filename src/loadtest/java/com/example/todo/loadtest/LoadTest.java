@@ -0,0 +1,139 @@
+package com.example.todo.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.todo.TodoApplication;
+
+/**
+ * Capacity check before a release: drives the auth and todo endpoints with the mix of {@link Operation} at a
+ * fixed total rate and reports coordinated-omission-corrected latency percentiles and throughput per endpoint.
+ *
+ * Without {@code target} the application is started in this JVM against the Postgres of spring.datasource.*
+ * (POSTGRES_USERNAME/POSTGRES_PASSWORD or .env, like a normal run), or a throwaway container with
+ * {@code testcontainers=true}. The generator then shares the CPU with the server; for numbers to compare
+ * against production run the jar separately and pass its url as {@code target}. The in-process application logs at
+ * {@code logging} (root level, warn by default, off to measure the cost of logging) and logs the SQL of a
+ * {@code sql-log-sample-rate} share of requests.
+ *
+ * Usage: ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="rate=200 concurrency=32 duration=60 warmup=10 max-p99=250"
+ */
+public class LoadTest {
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = options(args);
+    String target = options.get("target");
+    boolean testcontainers = Boolean.parseBoolean(options.getOrDefault("testcontainers", "false"));
+    int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+    double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+    int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+    int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+    double maxP99 = Double.parseDouble(options.getOrDefault("max-p99", "0"));
+    Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+    String logging = options.getOrDefault("logging", "warn");
+    String sqlLogSampleRate = options.getOrDefault("sql-log-sample-rate", "0");
+
+    PostgreSQLContainer<?> postgres = null;
+    ConfigurableApplicationContext application = null;
+    boolean passed = true;
+    try {
+      if (target == null) {
+        // Devtools is on the test classpath, its restarter would run this main method again with the Spring arguments.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Passed as command line arguments, which take precedence over application.yml.
+        List<String> properties = new ArrayList<>(List.of(
+          "--server.port=0", "--logging.level.root=" + logging, "--sql.log-sample-rate=" + sqlLogSampleRate));
+
+        if (testcontainers) {
+          postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"));
+          postgres.start();
+          properties.add("--spring.datasource.url=" + postgres.getJdbcUrl());
+          properties.add("--spring.datasource.username=" + postgres.getUsername());
+          properties.add("--spring.datasource.password=" + postgres.getPassword());
+        }
+
+        application = new SpringApplicationBuilder(TodoApplication.class).run(properties.toArray(String[]::new));
+        target = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+      }
+
+      System.out.printf("Load against %s: %s req/s from %d users, %d s warmup, %d s measured%n",
+        target, rate > 0 ? rate : "unthrottled", concurrency, warmup, duration);
+
+      LatencyStats stats = run(target, concurrency, rate, warmup, duration);
+      if (rate <= 0) {
+        System.out.println("Unthrottled run, latencies are service times and not corrected for coordinated omission.");
+      }
+
+      double p99 = stats.report(System.out, duration);
+      stats.write(output);
+      System.out.println("Corrected distributions written to " + output.toAbsolutePath());
+
+      if (maxP99 > 0 && p99 > maxP99) {
+        System.out.printf("FAILED: p99 of %.2f ms is above max-p99=%.2f ms%n", p99, maxP99);
+        passed = false;
+      }
+    } finally {
+      if (application != null) {
+        application.close();
+      }
+      if (postgres != null) {
+        postgres.stop();
+      }
+    }
+    System.exit(passed ? 0 : 1);
+  }
+
+  /** Each user sends every {@code concurrency / rate} seconds, staggered so the total rate stays even. */
+  private static LatencyStats run(String target, int concurrency, double rate, int warmup, int duration) throws Exception {
+    HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+    LatencyStats stats = new LatencyStats();
+
+    long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * concurrency / rate) : 0;
+    long startAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    long recordFrom = startAt + TimeUnit.SECONDS.toNanos(warmup);
+    long endAt = recordFrom + TimeUnit.SECONDS.toNanos(duration);
+
+    ExecutorService users = Executors.newFixedThreadPool(concurrency);
+    try {
+      List<Future<Void>> futures = new ArrayList<>(concurrency);
+      for (int i = 0; i < concurrency; i++) {
+        long offset = intervalNanos * i / concurrency;
+        futures.add(users.submit(new VirtualUser(client, target, stats, intervalNanos, startAt + offset, recordFrom, endAt)));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      users.shutdownNow();
+    }
+    return stats;
+  }
+
+  private static Map<String, String> options(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Expected key=value, got " + arg);
+      }
+      options.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+    return options;
+  }
+}
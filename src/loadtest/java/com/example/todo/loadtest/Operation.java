@@ -0,0 +1,39 @@
+package com.example.todo.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** The traffic mix, weights are percentages of all requests. */
+enum Operation {
+  SIGN_UP("POST /auth/sign-up", 2),
+  LOGIN("POST /auth/login", 8),
+  CREATE("POST /todo", 20),
+  LIST("GET /todo", 45),
+  UPDATE("PUT /todo/{id}", 15),
+  DELETE("DELETE /todo/{id}", 10);
+
+  private static final Operation[] VALUES = values();
+  private static final int TOTAL_WEIGHT = 100;
+
+  private final String endpoint;
+  private final int weight;
+
+  Operation(String endpoint, int weight) {
+    this.endpoint = endpoint;
+    this.weight = weight;
+  }
+
+  String endpoint() {
+    return endpoint;
+  }
+
+  static Operation pick() {
+    int value = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+    for (Operation operation : VALUES) {
+      value -= operation.weight;
+      if (value < 0) {
+        return operation;
+      }
+    }
+    return LIST;
+  }
+}
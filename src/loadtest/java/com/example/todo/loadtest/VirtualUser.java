@@ -0,0 +1,151 @@
+package com.example.todo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One signed-up user sending the operation mix. With a fixed interval the user is open-loop: request n is due
+ * at {@code startAt + n * interval} whether or not the previous one has returned, and its latency counts from
+ * that due time. Without an interval it sends back to back and only raw latencies are meaningful.
+ */
+class VirtualUser implements Callable<Void> {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String PASSWORD = "Load@24";
+  private static final int MAX_OWN_TODOS = 200;
+  // Tokens live for jwt.expiration-seconds, 120 by default. A user that has not logged in for a while does so first.
+  private static final long TOKEN_RENEWAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  private final HttpClient client;
+  private final String baseUrl;
+  private final LatencyStats stats;
+  private final long intervalNanos;
+  private final long startAt;
+  private final long recordFrom;
+  private final long endAt;
+
+  private final String email = "load-" + UUID.randomUUID() + "@test.in";
+  private final Deque<String> todos = new ArrayDeque<>();
+  private String token;
+  private long tokenIssuedAt;
+  private int sequence;
+
+  VirtualUser(HttpClient client, String baseUrl, LatencyStats stats, long intervalNanos, long startAt, long recordFrom, long endAt) {
+    this.client = client;
+    this.baseUrl = baseUrl;
+    this.stats = stats;
+    this.intervalNanos = intervalNanos;
+    this.startAt = startAt;
+    this.recordFrom = recordFrom;
+    this.endAt = endAt;
+  }
+
+  @Override
+  public Void call() throws Exception {
+    HttpResponse<String> signUp = send(post("/todo-api/v1/auth/sign-up", credentials(email), false));
+    if (signUp.statusCode() != 201) {
+      throw new IllegalStateException("Sign-up returned " + signUp.statusCode() + ": " + signUp.body());
+    }
+    renew(signUp);
+
+    for (long n = 0; ; n++) {
+      long dueAt = intervalNanos > 0 ? startAt + n * intervalNanos : System.nanoTime();
+      if (dueAt >= endAt) {
+        return null;
+      }
+      for (long wait = dueAt - System.nanoTime(); wait > 0; wait = dueAt - System.nanoTime()) {
+        LockSupport.parkNanos(wait);
+      }
+
+      Operation operation = next(Operation.pick());
+      long sentAt = System.nanoTime();
+      boolean ok = perform(operation);
+      long doneAt = System.nanoTime();
+
+      if (dueAt >= recordFrom) {
+        stats.record(operation, doneAt - dueAt, doneAt - sentAt, ok);
+      }
+    }
+  }
+
+  /** Operations on an own todo fall back to creating one, and an aging token is renewed by a login. */
+  private Operation next(Operation operation) {
+    if (System.nanoTime() - tokenIssuedAt > TOKEN_RENEWAL_NANOS) {
+      return Operation.LOGIN;
+    }
+    if ((operation == Operation.UPDATE || operation == Operation.DELETE) && todos.isEmpty()) {
+      return Operation.CREATE;
+    }
+    if (operation == Operation.CREATE && todos.size() >= MAX_OWN_TODOS) {
+      return Operation.DELETE;
+    }
+    return operation;
+  }
+
+  private boolean perform(Operation operation) {
+    try {
+      return switch (operation) {
+        case SIGN_UP -> send(post("/todo-api/v1/auth/sign-up", credentials("load-" + UUID.randomUUID() + "@test.in"), false)).statusCode() == 201;
+        case LOGIN -> {
+          HttpResponse<String> response = send(post("/todo-api/v1/auth/login", credentials(email), false));
+          if (response.statusCode() == 200) {
+            renew(response);
+          }
+          yield response.statusCode() == 200;
+        }
+        case CREATE -> {
+          HttpResponse<String> response = send(post("/todo-api/v1/todo", title(), true));
+          if (response.statusCode() == 201) {
+            todos.addLast(OBJECT_MAPPER.readTree(response.body()).path("uuid").asText());
+          }
+          yield response.statusCode() == 201;
+        }
+        case LIST -> send(authorized("/todo-api/v1/todo?limit=20").GET().build()).statusCode() == 200;
+        case UPDATE -> send(authorized("/todo-api/v1/todo/" + todos.peekLast())
+          .header("Content-Type", "application/json")
+          .PUT(HttpRequest.BodyPublishers.ofString(title()))
+          .build()).statusCode() == 200;
+        case DELETE -> send(authorized("/todo-api/v1/todo/" + todos.pollFirst()).DELETE().build()).statusCode() == 200;
+      };
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void renew(HttpResponse<String> response) throws Exception {
+    JsonNode body = OBJECT_MAPPER.readTree(response.body());
+    token = body.path("authToken").asText();
+    tokenIssuedAt = System.nanoTime();
+  }
+
+  private String credentials(String email) {
+    return String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD);
+  }
+
+  private String title() {
+    return "{\"title\":\"load todo " + sequence++ + "\"}";
+  }
+
+  private HttpRequest.Builder authorized(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token);
+  }
+
+  private HttpRequest post(String path, String body, boolean authorized) {
+    HttpRequest.Builder builder = authorized ? authorized(path) : HttpRequest.newBuilder(URI.create(baseUrl + path));
+    return builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+  }
+
+  private HttpResponse<String> send(HttpRequest request) throws Exception {
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}
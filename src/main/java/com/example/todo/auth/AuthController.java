@@ -1,9 +1,12 @@
 package com.example.todo.auth;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -11,6 +14,7 @@ import lombok.AllArgsConstructor;
 
 @RestController
 @RequestMapping("/todo-api/v1/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 public class AuthController {
   private final AuthService authService;
@@ -24,4 +28,21 @@ public class AuthController {
   public ResponseEntity<AuthResponseDto> login(@RequestBody AuthRequestDto request) {
     return ResponseEntity.status(HttpStatus.OK).body(authService.login(request));
   }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<AuthResponseDto> refresh(@RequestBody RefreshRequestDto request) {
+    return ResponseEntity.status(HttpStatus.OK).body(authService.refresh(request));
+  }
+
+  @PostMapping("/revoke")
+  public ResponseEntity<Void> revoke(@RequestBody RefreshRequestDto request) {
+    authService.revoke(request);
+    return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+  }
+
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization, @RequestBody(required = false) RefreshRequestDto request) {
+    authService.logout(authorization, request);
+    return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+  }
 }
@@ -1,5 +1,5 @@
 package com.example.todo.auth;
 
-public record AuthResponseDto(String username, String authToken) {
+public record AuthResponseDto(String username, String authToken, String refreshToken) {
   
 }
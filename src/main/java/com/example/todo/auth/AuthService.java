@@ -2,6 +2,8 @@ package com.example.todo.auth;
 
 import java.util.Optional;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,14 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.todo.exception.TodoException;
 import com.example.todo.jwt.JwtService;
+import com.example.todo.jwt.TokenRevocationService;
 import com.example.todo.shared.UuidGenerator;
 import com.example.todo.user.User;
 import com.example.todo.user.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @Slf4j
 public class AuthService {
@@ -30,41 +35,76 @@ public class AuthService {
   private final AuthenticationManager authenticationManager;
 
   private final JwtService jwtService;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationService tokenRevocationService;
   private final UuidGenerator uuidGenerator;
 
   @Transactional
   public AuthResponseDto signUp(final AuthRequestDto request) {
-    Optional<User> _user = userRepository.findByEmail(request.email());
-    if (_user.isPresent()) {
-      log.error("User with email=`{}` already exist", request.email());
-      throw new TodoException("Duplicate Entry", String.format("User with email=`%s` already exist", request.email()));
-    }
-
     User user = User.builder()
       .uuid(uuidGenerator.randomUUID())
       .email(request.email())
       .password(passwordEncoder.encode(request.password()))
       .build();
     
-    userRepository.save(user);
+    try {
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      log.error("User with email=`{}` already exist", request.email());
+      throw new TodoException("Duplicate Entry", String.format("User with email=`%s` already exist", request.email()));
+    }
     log.info("User created with email=`{}`", request.email());
 
-    String authToken = jwtService.generateToken(request.email());
-    return new AuthResponseDto(request.email(), authToken);
+    String authToken = jwtService.generateToken(user);
+    return new AuthResponseDto(request.email(), authToken, refreshTokenService.issue(user));
   }
 
-  @Transactional
+  /**
+   * Not transactional, the user details service loads the user from the primary and the refresh
+   * token is written in its own transaction.
+   */
   public AuthResponseDto login(final AuthRequestDto request) {
+    User user;
     try {
-      authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.email(), request.password()));
-      log.info("User authenticated for, username=`{}`, password=`{}`.", request.email(), request.password());
+      Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.email(), request.password()));
+      user = (User) authentication.getPrincipal();
+      log.info("User authenticated for, username=`{}`.", request.email());
     } catch (BadCredentialsException e) {
-      log.error("Invalid credentials for login, username=`{}`, password=`{}`.", request.email(), request.password());
+      log.error("Invalid credentials for login, username=`{}`.", request.email());
       throw new BadCredentialsException("Invalid username or password");
     }
 
-    String authToken = jwtService.generateToken(request.email());
-    return new AuthResponseDto(request.email(), authToken);
+    String authToken = jwtService.generateToken(user);
+    return new AuthResponseDto(request.email(), authToken, refreshTokenService.issue(user));
+  }
+
+  /**
+   * Mints a new access token from a refresh token, with one indexed lookup and no password check.
+   */
+  public AuthResponseDto refresh(final RefreshRequestDto request) {
+    RotatedRefreshToken rotated = refreshTokenService.rotate(request.refreshToken());
+    User user = rotated.user();
+    log.info("Access token refreshed for, username=`{}`.", user.getEmail());
+
+    return new AuthResponseDto(user.getEmail(), jwtService.generateToken(user), rotated.refreshToken());
+  }
+
+  public void revoke(final RefreshRequestDto request) {
+    refreshTokenService.revoke(request.refreshToken());
+  }
+
+  /**
+   * Revokes the presented access token, and the refresh token family when one is given. The endpoint
+   * is authenticated, so the header already holds a verified token and parsing hits the cache.
+   */
+  public void logout(final String authorization, final RefreshRequestDto request) {
+    Claims claims = jwtService.parse(authorization.substring(7));
+    tokenRevocationService.revoke(claims);
+
+    if (request != null) {
+      refreshTokenService.revoke(request.refreshToken());
+    }
+    log.info("User logged out, username=`{}`.", claims.getSubject());
   }
 
   public Optional<User> getCurrentUser() {
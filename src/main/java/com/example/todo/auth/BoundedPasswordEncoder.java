@@ -0,0 +1,109 @@
+package com.example.todo.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.todo.exception.ServerBusyException;
+import com.example.todo.tracing.Phase;
+import com.example.todo.tracing.RequestTrace;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs the hashing and verification of a slow encoder such as BCrypt on a fixed pool with a bounded queue.
+ * A login storm can then use at most {@code threads} CPUs, and callers beyond the queue are rejected
+ * with {@link ServerBusyException} instead of piling up behind it. {@link #upgradeEncoding} only
+ * parses the hash and stays on the caller thread.
+ *
+ * The hashing time is recorded on the pool thread, so the timers show the cost of the algorithm
+ * while the queue gauge and the rejection counter show saturation. The request trace gets the time the
+ * caller waited, queue included.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejections;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), daemonThreads());
+
+    this.encodeTimer = hashingTimer("encode", meterRegistry);
+    this.matchesTimer = hashingTimer("matches", meterRegistry);
+    this.rejections = Counter.builder("password.hashing.rejected")
+      .description("Password checks rejected because the hashing queue was full")
+      .register(meterRegistry);
+    Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size())
+      .description("Password checks waiting for a hashing thread")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Callable<T> task) {
+    RequestTrace.begin(Phase.PASSWORD_HASHING);
+    try {
+      return executor.submit(task).get();
+    } catch (RejectedExecutionException e) {
+      rejections.increment();
+      throw new ServerBusyException("Server Busy", "Too many concurrent password checks, retry shortly");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      RequestTrace.end(Phase.PASSWORD_HASHING);
+    }
+  }
+
+  private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+    return Timer.builder("password.hashing")
+      .description("Time spent hashing or verifying a password on a hashing thread")
+      .tag("operation", operation)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  private static ThreadFactory daemonThreads() {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
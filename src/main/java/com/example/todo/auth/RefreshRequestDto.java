@@ -0,0 +1,5 @@
+package com.example.todo.auth;
+
+public record RefreshRequestDto(String refreshToken) {
+
+}
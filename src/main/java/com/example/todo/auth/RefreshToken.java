@@ -0,0 +1,56 @@
+package com.example.todo.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.example.todo.shared.AuditEntity;
+import com.example.todo.user.User;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString(exclude = "user")
+@Builder
+@Table(name = "refresh_token")
+@Entity
+public class RefreshToken extends AuditEntity {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_generator")
+  @SequenceGenerator(name = "refresh_token_generator", sequenceName = "refresh_token_generator_sequence", initialValue = 101)
+  private Long id;
+
+  @NotNull
+  private String tokenHash;
+
+  @NotNull
+  private UUID familyId;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "app_user_id")
+  private User user;
+
+  @NotNull
+  private Instant expiresAt;
+
+  private Instant usedAt;
+
+  private Instant revokedAt;
+}
@@ -0,0 +1,30 @@
+package com.example.todo.auth;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+  /** Loads the owner along with the token, so minting the access token needs no second query. */
+  @Query("select r from RefreshToken r join fetch r.user where r.tokenHash = :tokenHash")
+  Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+  /** Claims the token for one rotation, returns 0 when it was already used or revoked. */
+  @Modifying
+  @Query("update RefreshToken r set r.usedAt = :usedAt, r.updatedAt = :usedAt where r.id = :id and r.usedAt is null and r.revokedAt is null")
+  int markUsed(Long id, Instant usedAt);
+
+  @Modifying
+  @Query("update RefreshToken r set r.revokedAt = :revokedAt, r.updatedAt = :revokedAt where r.familyId = :familyId and r.revokedAt is null")
+  int revokeFamily(UUID familyId, Instant revokedAt);
+
+  @Modifying
+  @Query("delete from RefreshToken r where r.expiresAt < :now")
+  int deleteExpired(Instant now);
+}
@@ -0,0 +1,113 @@
+package com.example.todo.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todo.exception.InvalidTokenException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and rotates refresh tokens. Every refresh consumes the presented token and issues a successor
+ * in the same family; presenting a consumed token again means it was copied, so the family is revoked.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class RefreshTokenService {
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final UuidGenerator uuidGenerator;
+  private final long expirationSeconds;
+
+  public RefreshTokenService(
+    RefreshTokenRepository refreshTokenRepository,
+    UuidGenerator uuidGenerator,
+    @Value("${jwt.refresh-expiration-seconds:1209600}") long expirationSeconds
+  ) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.uuidGenerator = uuidGenerator;
+    this.expirationSeconds = expirationSeconds;
+  }
+
+  /** Starts a new family, one per sign-up or login. */
+  @Transactional
+  public String issue(User user) {
+    return issue(user, uuidGenerator.randomUUID(), Instant.now());
+  }
+
+  /**
+   * Consumes the token and returns its successor. The guarded update lets exactly one of two
+   * concurrent refreshes with the same token win, the other is treated as a replay.
+   */
+  @Transactional(noRollbackFor = InvalidTokenException.class)
+  public RotatedRefreshToken rotate(String token) {
+    RefreshToken current = find(token);
+    Instant now = Instant.now();
+
+    if (current.getRevokedAt() != null || current.getExpiresAt().isBefore(now)) {
+      throw invalidToken();
+    }
+
+    if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+      refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+      log.warn("Reuse of refresh token detected, revoked family=`{}` of user=`{}`", current.getFamilyId(), current.getUser().getEmail());
+      throw invalidToken();
+    }
+
+    return new RotatedRefreshToken(current.getUser(), issue(current.getUser(), current.getFamilyId(), now));
+  }
+
+  /** Revokes the family of the token, unknown tokens are ignored so the call is idempotent. */
+  @Transactional
+  public void revoke(String token) {
+    if (token == null || token.isBlank()) {
+      return;
+    }
+
+    refreshTokenRepository.findByTokenHash(RefreshTokens.hash(token)).ifPresent(refreshToken -> {
+      refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), Instant.now());
+      log.info("Revoked refresh token family=`{}` of user=`{}`", refreshToken.getFamilyId(), refreshToken.getUser().getEmail());
+    });
+  }
+
+  /** Expired tokens can neither be used nor replayed, so they are only kept until the next run. */
+  @Scheduled(fixedDelayString = "${jwt.purge-interval:PT1H}", initialDelayString = "${jwt.purge-interval:PT1H}")
+  @Transactional
+  public void purgeExpired() {
+    int purged = refreshTokenRepository.deleteExpired(Instant.now());
+    if (purged > 0) {
+      log.info("Purged {} expired refresh tokens", purged);
+    }
+  }
+
+  private String issue(User user, UUID familyId, Instant now) {
+    String token = RefreshTokens.generate();
+    refreshTokenRepository.save(RefreshToken.builder()
+      .tokenHash(RefreshTokens.hash(token))
+      .familyId(familyId)
+      .user(user)
+      .expiresAt(now.plusSeconds(expirationSeconds))
+      .build());
+    return token;
+  }
+
+  private RefreshToken find(String token) {
+    if (token == null || token.isBlank()) {
+      throw invalidToken();
+    }
+
+    return refreshTokenRepository.findByTokenHash(RefreshTokens.hash(token)).orElseThrow(this::invalidToken);
+  }
+
+  private InvalidTokenException invalidToken() {
+    return new InvalidTokenException("Invalid Token", "Refresh token is invalid, expired or revoked");
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.todo.auth;
+
+import com.example.todo.user.User;
+
+/**
+ * Owner of a rotated refresh token together with its successor.
+ */
+public record RotatedRefreshToken(User user, String refreshToken) {
+
+}
@@ -0,0 +1,18 @@
+package com.example.todo.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.todo.todo.TodoFieldFilter;
+import com.example.todo.todo.TodoResponseDto;
+
+@Configuration
+public class JacksonConfig {
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer todoFieldFilterCustomizer() {
+    return builder -> builder
+      .mixIn(TodoResponseDto.class, TodoFieldFilter.MixIn.class)
+      .filters(TodoFieldFilter.allFields());
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Kept off the application class, the reactive profile runs without JPA and auditing would fail on the empty metamodel.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+
+}
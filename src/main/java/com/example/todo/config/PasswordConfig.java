@@ -0,0 +1,25 @@
+package com.example.todo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.todo.auth.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordConfig {
+  @Bean
+  public PasswordEncoder passwordEncoder(
+    @Value("${password.bcrypt-strength:10}") int strength,
+    @Value("${password.hashing-threads:0}") int threads,
+    @Value("${password.hashing-queue-capacity:64}") int queueCapacity,
+    MeterRegistry meterRegistry
+  ) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the housekeeping jobs, such as purging expired refresh tokens.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
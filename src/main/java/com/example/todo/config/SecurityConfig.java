@@ -1,6 +1,8 @@
 package com.example.todo.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,8 +10,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -17,6 +17,7 @@ import com.example.todo.jwt.JwtFilter;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
   @Autowired
   private JwtFilter jwtFilter;
@@ -27,6 +28,9 @@ public class SecurityConfig {
 
     http.authorizeHttpRequests(request -> {
       request.requestMatchers("/error").permitAll();
+      // Scraped without a token, only matches on management.server.port.
+      request.requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll();
+      request.requestMatchers("/todo-api/v1/auth/logout").authenticated();
       request.requestMatchers("/todo-api/v1/auth/**").permitAll();
       request.requestMatchers("/todo/**").permitAll();
       request.anyRequest().authenticated();
@@ -42,9 +46,4 @@ public class SecurityConfig {
   public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
     return configuration.getAuthenticationManager();
   }
-
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
 }
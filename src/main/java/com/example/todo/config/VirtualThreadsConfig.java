@@ -0,0 +1,19 @@
+package com.example.todo.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Spring Boot silently ignores spring.threads.virtual.enabled below Java 21,
+ * so the profile refuses to start instead of quietly falling back to platform threads.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+  public VirtualThreadsConfig() {
+    if (JavaVersion.getJavaVersion().isOlderThan(JavaVersion.TWENTY_ONE)) {
+      throw new IllegalStateException(String.format("The virtual-threads profile needs Java 21 or newer, running on %s", Runtime.version()));
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.todo.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.example.todo.tracing.Phase;
+import com.example.todo.tracing.RequestTrace;
+
+/**
+ * Feeds {@link SqlStatementCounter} and the CONNECTION and SQL phases of {@link RequestTrace} with every statement
+ * sent through the application DataSource, by Hibernate, JdbcTemplate or plain JDBC alike. Prepared statements count
+ * when prepared, so a JDBC batch is one statement; plain statements count per execute. Every execute is timed as SQL.
+ * Connections are only wrapped while a count or a trace is running on the thread.
+ * The SQL text goes along for the sampled statement log; a batch executed on a plain statement has none.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+  public CountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!isInstrumented()) {
+      return super.getConnection();
+    }
+
+    RequestTrace.begin(Phase.CONNECTION);
+    try {
+      return counting(super.getConnection());
+    } finally {
+      RequestTrace.end(Phase.CONNECTION);
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (!isInstrumented()) {
+      return super.getConnection(username, password);
+    }
+
+    RequestTrace.begin(Phase.CONNECTION);
+    try {
+      return counting(super.getConnection(username, password));
+    } finally {
+      RequestTrace.end(Phase.CONNECTION);
+    }
+  }
+
+  private static boolean isInstrumented() {
+    return SqlStatementCounter.isActive() || RequestTrace.isActive();
+  }
+
+  /**
+   * A lazy connection, as handed out in front of the replica, only takes one from the pool on its first statement.
+   * That acquisition is forced just before the statement, so it is timed as CONNECTION rather than SQL.
+   */
+  private static Connection counting(Connection connection) {
+    boolean[] acquired = {!(connection instanceof ConnectionProxy)};
+
+    return proxy(Connection.class, connection, (proxy, method, args) -> {
+      String name = method.getName();
+      boolean prepared = name.equals("prepareStatement") || name.equals("prepareCall");
+      if (!acquired[0] && (prepared || name.equals("createStatement"))) {
+        RequestTrace.begin(Phase.CONNECTION);
+        try {
+          ((ConnectionProxy) connection).getTargetConnection();
+        } finally {
+          RequestTrace.end(Phase.CONNECTION);
+        }
+        acquired[0] = true;
+      }
+
+      if (prepared) {
+        SqlStatementCounter.increment((String) args[0]);
+      }
+
+      Object result = invoke(connection, method, args);
+      if (result instanceof Statement statement) {
+        return timed(method.getReturnType(), statement, !prepared);
+      }
+      return result;
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Statement timed(Class<?> type, Statement statement, boolean countExecutes) {
+    return proxy((Class<Statement>) type, statement, (proxy, method, args) -> {
+      if (!method.getName().startsWith("execute")) {
+        return invoke(statement, method, args);
+      }
+
+      if (countExecutes) {
+        SqlStatementCounter.increment(args != null && args.length > 0 ? (String) args[0] : null);
+      }
+
+      RequestTrace.begin(Phase.SQL);
+      try {
+        return invoke(statement, method, args);
+      } finally {
+        RequestTrace.end(Phase.SQL);
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.todo.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application DataSource in a {@link CountingDataSource}. Only the bean named {@code dataSource} is
+ * wrapped, with a replica that is the routing proxy in front of both pools, so no statement is counted twice.
+ */
+@Component
+public class CountingDataSourcePostProcessor implements BeanPostProcessor {
+  private static final String DATA_SOURCE_BEAN = "dataSource";
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+      return new CountingDataSource(dataSource);
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.todo.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits connections between the primary and a read replica when `datasource.replica.jdbc-url` is set.
+ * Read-only transactions go to the replica, everything else stays on the primary.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.jdbc-url")
+public class DataSourceConfig {
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  /**
+   * Binds spring.datasource.hikari first and datasource.replica on top, so pool sizes, timeouts and data source
+   * properties carry over from the primary and only the url and real differences need to be configured.
+   * Bound into the replica's own HikariConfig rather than copied, the primary's property maps stay untouched.
+   */
+  @Bean
+  public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder binder = Binder.get(environment);
+    binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    dataSource.setPoolName("replica");
+    binder.bind("datasource.replica", Bindable.ofInstance(dataSource));
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.read-your-writes-seconds:0}") long windowSeconds) {
+    return new ReadYourWritesTracker(windowSeconds);
+  }
+
+  /**
+   * The transaction manager marks the connection read-only before the first statement, and the lazy
+   * proxy only fetches the physical connection then, so it can pick the pool from that flag.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+    @Qualifier("primaryDataSource") DataSource primaryDataSource,
+    @Qualifier("replicaDataSource") DataSource replicaDataSource,
+    ReadYourWritesTracker readYourWritesTracker
+  ) {
+    ReplicaRoutingDataSource readOnlyDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker);
+    readOnlyDataSource.afterPropertiesSet();
+
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(readOnlyDataSource);
+    return dataSource;
+  }
+}
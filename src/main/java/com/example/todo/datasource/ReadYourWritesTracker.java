@@ -0,0 +1,73 @@
+package com.example.todo.datasource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import com.example.todo.user.User;
+
+/**
+ * Remembers when each user last committed a read-write transaction, so their reads can stay on
+ * the primary for a short window afterwards. A window of 0 disables tracking.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+  private static final int PRUNE_THRESHOLD = 10_000;
+
+  private final long windowNanos;
+  private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+  public ReadYourWritesTracker(long windowSeconds) {
+    this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+  }
+
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    if (windowNanos <= 0 || commitFailure != null || transaction.isReadOnly()) {
+      return;
+    }
+
+    currentUserId().ifPresent(this::recordWrite);
+  }
+
+  public void recordWrite(Long userId) {
+    long now = System.nanoTime();
+    if (lastWrites.size() >= PRUNE_THRESHOLD) {
+      lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    lastWrites.put(userId, now);
+  }
+
+  public boolean hasRecentWrite(Long userId) {
+    Long writtenAt = lastWrites.get(userId);
+    if (writtenAt == null) {
+      return false;
+    }
+
+    if (System.nanoTime() - writtenAt < windowNanos) {
+      return true;
+    }
+
+    lastWrites.remove(userId, writtenAt);
+    return false;
+  }
+
+  public boolean hasRecentWrite() {
+    return windowNanos > 0 && currentUserId().map(this::hasRecentWrite).orElse(false);
+  }
+
+  private Optional<Long> currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof User user) {
+      return Optional.ofNullable(user.getId());
+    }
+
+    return Optional.empty();
+  }
+}
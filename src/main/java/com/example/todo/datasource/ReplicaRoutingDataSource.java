@@ -0,0 +1,30 @@
+package com.example.todo.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Serves read-only connections from the replica, unless the current user wrote within the
+ * read-your-writes window, in which case the replica may still lag behind and the primary is used.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  enum Route {
+    PRIMARY, REPLICA
+  }
+
+  private final ReadYourWritesTracker readYourWritesTracker;
+
+  public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReadYourWritesTracker readYourWritesTracker) {
+    this.readYourWritesTracker = readYourWritesTracker;
+    setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(replicaDataSource);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return readYourWritesTracker.hasRecentWrite() ? Route.PRIMARY : Route.REPLICA;
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.todo.datasource;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements of each request, including the ones issued by the security filters.
+ * With {@code sql.count-header} the count is returned in {@value #HEADER}, as it stood when the
+ * response was committed. Requests above {@code sql.statement-threshold} are logged and counted
+ * per endpoint, which is how an N+1 slipping into a service shows up in production.
+ *
+ * {@code sql.log-sample-rate} is the share of requests whose statements are logged. It replaces
+ * {@code spring.jpa.show-sql}, which printed every statement of every request to stdout.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+// Inside RequestIdFilter, so the threshold warning carries the request id.
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class SqlCountFilter extends OncePerRequestFilter {
+  public static final String HEADER = "X-Sql-Count";
+
+  private final boolean exposeHeader;
+  private final int threshold;
+  private final double logSampleRate;
+  private final MeterRegistry meterRegistry;
+  private final DistributionSummary statements;
+
+  public SqlCountFilter(
+    @Value("${sql.count-header:false}") boolean exposeHeader,
+    @Value("${sql.statement-threshold:10}") int threshold,
+    @Value("${sql.log-sample-rate:0}") double logSampleRate,
+    MeterRegistry meterRegistry
+  ) {
+    this.exposeHeader = exposeHeader;
+    this.threshold = threshold;
+    this.logSampleRate = logSampleRate;
+    this.meterRegistry = meterRegistry;
+    this.statements = DistributionSummary.builder("sql.statements")
+      .description("SQL statements issued per request")
+      .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    SqlStatementCounter.start(logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate);
+    try {
+      filterChain.doFilter(request, exposeHeader ? new CountHeaderResponse(response) : response);
+    } finally {
+      int count = SqlStatementCounter.stop();
+      if (exposeHeader && !response.isCommitted()) {
+        response.setHeader(HEADER, String.valueOf(count));
+      }
+
+      statements.record(count);
+      if (threshold > 0 && count > threshold) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (uri == null ? "UNKNOWN" : uri);
+        meterRegistry.counter("sql.statements.exceeded", "endpoint", endpoint).increment();
+        log.warn("Request `{}` issued {} SQL statements, above the threshold of {}", endpoint, count, threshold);
+      }
+    }
+  }
+
+  /** Sets the header at the last moment headers can still change. */
+  private static final class CountHeaderResponse extends OnCommittedResponseWrapper {
+    CountHeaderResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    protected void onResponseCommitted() {
+      setHeader(HEADER, String.valueOf(SqlStatementCounter.current()));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.todo.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-thread count of the SQL statements sent between {@link #start()} and {@link #stop()}, fed by
+ * {@link CountingDataSource}. Outside of a count, connections are handed out unwrapped. A count started
+ * with {@code logStatements} also logs the text of each statement, never its parameters.
+ */
+@Slf4j
+public final class SqlStatementCounter {
+  private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+  private SqlStatementCounter() {}
+
+  public static void start() {
+    start(false);
+  }
+
+  public static void start(boolean logStatements) {
+    COUNT.set(new Count(logStatements));
+  }
+
+  public static boolean isActive() {
+    return COUNT.get() != null;
+  }
+
+  public static void increment(String sql) {
+    Count count = COUNT.get();
+    if (count != null) {
+      count.value++;
+      if (count.logStatements && sql != null) {
+        log.info("SQL statement {}: `{}`", count.value, sql);
+      }
+    }
+  }
+
+  public static int current() {
+    Count count = COUNT.get();
+    return count == null ? 0 : count.value;
+  }
+
+  public static int stop() {
+    int value = current();
+    COUNT.remove();
+    return value;
+  }
+
+  private static final class Count {
+    private final boolean logStatements;
+    private int value;
+
+    private Count(boolean logStatements) {
+      this.logStatements = logStatements;
+    }
+  }
+}
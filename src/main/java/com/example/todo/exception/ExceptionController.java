@@ -2,6 +2,8 @@ package com.example.todo.exception;
 
 import java.time.Instant;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -19,6 +21,31 @@ public class ExceptionController {
       .body(new ExceptionDto(Instant.now(), HttpStatus.BAD_REQUEST.value(), e.getError(), e.getMessage()));
   }
 
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ExceptionDto> handlePreconditionFailedException(PreconditionFailedException e) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+      .body(new ExceptionDto(Instant.now(), HttpStatus.PRECONDITION_FAILED.value(), e.getError(), e.getMessage()));
+  }
+
+  @ExceptionHandler(InvalidTokenException.class)
+  public ResponseEntity<ExceptionDto> handleInvalidTokenException(InvalidTokenException e) {
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+      .body(new ExceptionDto(Instant.now(), HttpStatus.UNAUTHORIZED.value(), e.getError(), e.getMessage()));
+  }
+
+  @ExceptionHandler(ServerBusyException.class)
+  public ResponseEntity<ExceptionDto> handleServerBusyException(ServerBusyException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "1")
+      .body(new ExceptionDto(Instant.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), e.getError(), e.getMessage()));
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ExceptionDto> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+      .body(new ExceptionDto(Instant.now(), HttpStatus.CONFLICT.value(), "Concurrent Update", "The resource was modified concurrently, fetch it again and retry"));
+  }
+
   @ExceptionHandler(UsernameNotFoundException.class)
   public ResponseEntity<ExceptionDto> handleUsernotFoundException(UsernameNotFoundException e) {
     return ResponseEntity.status(HttpStatus.NOT_FOUND)
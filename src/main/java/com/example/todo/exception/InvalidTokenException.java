@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class InvalidTokenException extends TodoException {
+  public InvalidTokenException(String error, String message) {
+    super(error, message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class PreconditionFailedException extends TodoException {
+  public PreconditionFailedException(String error, String message) {
+    super(error, message);
+  }
+}
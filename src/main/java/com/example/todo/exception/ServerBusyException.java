@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class ServerBusyException extends TodoException {
+  public ServerBusyException(String error, String message) {
+    super(error, message);
+  }
+}
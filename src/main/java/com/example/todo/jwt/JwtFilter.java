@@ -2,16 +2,19 @@ package com.example.todo.jwt;
 
 import java.io.IOException;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
-import com.example.todo.user.UserService;
+import com.example.todo.tracing.Phase;
+import com.example.todo.tracing.RequestTrace;
+import com.example.todo.user.User;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,10 +23,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
   private final JwtService jwtService;
-  private final UserService userService;
+  private final TokenRevocationService tokenRevocationService;
   private final HandlerExceptionResolver handlerExceptionResolver;
 
   @Override
@@ -33,17 +37,24 @@ public class JwtFilter extends OncePerRequestFilter {
     if (token != null && token.startsWith("Bearer ")) {
       token = token.substring(7);
       
+      RequestTrace.begin(Phase.AUTHENTICATION);
       try {
-        String username = jwtService.getUsername(token);
-        UserDetails user = userService.loadUserByUsername(username);
-        
-        if (jwtService.isValid(user, token)) {
-          UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-          authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        Claims claims = jwtService.parse(token);
+        if (tokenRevocationService.isRevoked(claims)) {
+          throw new JwtException("Revoked JWT token");
         }
+
+        User user = jwtService.getUser(claims);
+
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(user, null, jwtService.getAuthorities(claims));
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        RequestTrace.user(user.getUuid() == null ? null : user.getUuid().toString());
       } catch (Exception e) {
         handlerExceptionResolver.resolveException(request, response, null, new JwtException("Invalid JWT token"));
+        return;
+      } finally {
+        RequestTrace.end(Phase.AUTHENTICATION);
       }
     }
 
@@ -4,60 +4,150 @@ import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.example.todo.user.User;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Component
 public class JwtService {
-  @Value("${jwt.secret-key}")
-  private String secretKey;
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String USER_UUID_CLAIM = "uuid";
+  private static final String ROLES_CLAIM = "roles";
+
+  private final Key key;
+  private final JwtParser parser;
+  private final Integer expirationSeconds;
+  private final VerifiedTokenCache verifiedTokenCache;
 
-  @Value("${jwt.expiration-seconds}")
-  private Integer expirationSeconds;
+  // Registered once, the request path only records into them.
+  private final Timer cacheHits;
+  private final Timer verifications;
+  private final Counter rejections;
+
+  public JwtService(
+    @Value("${jwt.secret-key}") String secretKey,
+    @Value("${jwt.expiration-seconds}") Integer expirationSeconds,
+    @Value("${jwt.cache-size:10000}") Integer cacheSize,
+    MeterRegistry meterRegistry
+  ) {
+    this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    this.expirationSeconds = expirationSeconds;
+    this.verifiedTokenCache = new VerifiedTokenCache(cacheSize);
+
+    Timer.Builder verify = Timer.builder("jwt.verify")
+      .description("Token checks, served from the verified token cache or by checking signature and expiry")
+      .publishPercentileHistogram();
+    this.cacheHits = verify.tag("outcome", "hit").register(meterRegistry);
+    this.verifications = verify.tag("outcome", "miss").register(meterRegistry);
+    this.rejections = Counter.builder("jwt.verify.rejected")
+      .description("Tokens that failed verification")
+      .register(meterRegistry);
+  }
+
+  public String generateToken(User user) {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(USER_ID_CLAIM, user.getId());
+    claims.put(USER_UUID_CLAIM, user.getUuid().toString());
+    claims.put(ROLES_CLAIM, user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
 
-  public String generateToken(String username) {
     return Jwts.builder()
-    .setClaims(new HashMap<>())
+    .setClaims(claims)
+    .setId(UUID.randomUUID().toString())
     .setIssuedAt(Date.from(Instant.now()))
     .setExpiration(Date.from(Instant.now().plusSeconds(expirationSeconds)))
-    .setSubject(username)
-    .signWith(getKey(), SignatureAlgorithm.HS256)
+    .setSubject(user.getUsername())
+    .signWith(key, SignatureAlgorithm.HS256)
     .compact();
   }
 
+  /**
+   * Verifies the signature and expiry of the token and returns its claims.
+   * Tokens that were already verified are served from the cache until they expire.
+   * Both paths are timed, a hit still hashes the token with SHA-256 to find its entry.
+   */
+  public Claims parse(String token) {
+    long start = System.nanoTime();
+    Claims claims = verifiedTokenCache.get(token);
+    if (claims != null) {
+      cacheHits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return claims;
+    }
+
+    try {
+      claims = parser.parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException e) {
+      rejections.increment();
+      throw e;
+    } finally {
+      verifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    verifiedTokenCache.put(token, claims);
+    return claims;
+  }
+
   public String getUsername(String token) {
-    return getClaims(token).getSubject();
+    return parse(token).getSubject();
   }
 
   public boolean isValid(UserDetails user, String token) {
     try {
-      return user.getUsername().equals(getUsername(token)) 
-      && !getClaims(token).getExpiration().before(new Date());
+      return isValid(user, parse(token));
     } catch (JwtException e) {
       throw new JwtException("Invalid JWT token.");
     }
   }
 
-  private Key getKey() {
-    byte[] decodeKey = Decoders.BASE64.decode(this.secretKey);
-    return Keys.hmacShaKeyFor(decodeKey);
+  /**
+   * Builds the authenticated principal from verified claims, without loading the user.
+   * The returned user is detached and carries no password.
+   */
+  public User getUser(Claims claims) {
+    Long id = claims.get(USER_ID_CLAIM, Long.class);
+    if (id == null) {
+      throw new JwtException("Invalid JWT token.");
+    }
+
+    String uuid = claims.get(USER_UUID_CLAIM, String.class);
+    return User.builder()
+      .id(id)
+      .uuid(uuid == null ? null : UUID.fromString(uuid))
+      .email(claims.getSubject())
+      .build();
+  }
+
+  public List<GrantedAuthority> getAuthorities(Claims claims) {
+    List<?> roles = claims.get(ROLES_CLAIM, List.class);
+    if (roles == null) {
+      return List.of();
+    }
+
+    return roles.stream().map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString())).toList();
   }
 
-  private Claims getClaims(String token) {
-    return Jwts.parserBuilder()
-      .setSigningKey(getKey())
-      .build()
-      .parseClaimsJws(token)
-      .getBody();
+  public boolean isValid(UserDetails user, Claims claims) {
+    return user.getUsername().equals(claims.getSubject())
+    && !claims.getExpiration().before(new Date());
   }
 }
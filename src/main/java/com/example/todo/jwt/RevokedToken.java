@@ -0,0 +1,31 @@
+package com.example.todo.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@ToString
+@Table(name = "revoked_token")
+@Entity
+public class RevokedToken {
+  @Id
+  private UUID jti;
+
+  private Instant expiresAt;
+
+  private Instant revokedAt;
+}
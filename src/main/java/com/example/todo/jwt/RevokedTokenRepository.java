@@ -0,0 +1,29 @@
+package com.example.todo.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+  /** Revoking the same token twice is a no-op, so logout can be retried. */
+  @Transactional
+  @Modifying
+  @Query(nativeQuery = true, value = "insert into revoked_token (jti, expires_at, revoked_at) values (:jti, :expiresAt, :revokedAt) on conflict do nothing")
+  int insert(UUID jti, Instant expiresAt, Instant revokedAt);
+
+  @Query("select r from RevokedToken r where r.revokedAt > :since and r.expiresAt > :now")
+  List<RevokedToken> findRevokedSince(Instant since, Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from RevokedToken r where r.expiresAt < :now")
+  int deleteExpired(Instant now);
+}
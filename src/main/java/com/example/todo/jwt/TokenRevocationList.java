@@ -0,0 +1,141 @@
+package com.example.todo.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory view of revoked token ids, checked on every authenticated request.
+ *
+ * A Bloom filter answers the common case, a token that was never revoked, by hashing the id
+ * in place without allocating or locking. Only on a hit is the exact set consulted, which holds
+ * up to {@code expectedRevocations} ids with their expiry; ids beyond that are only in the filter
+ * and the caller falls back to the revocation table.
+ *
+ * Bloom filters cannot delete, so two generations are kept and the older one is dropped every
+ * {@code generationMillis}. With the access token lifetime as generation, an id stays in the
+ * filter for at least as long as the token it revokes can be presented.
+ */
+public class TokenRevocationList {
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final int expectedRevocations;
+  private final long generationMillis;
+  private final Map<String, Long> revoked;
+
+  private volatile BloomFilter current;
+  private volatile BloomFilter previous;
+  private volatile long rotatedAt;
+
+  public TokenRevocationList(int expectedRevocations, long generationMillis) {
+    this.expectedRevocations = Math.max(expectedRevocations, 1);
+    this.generationMillis = generationMillis;
+    this.revoked = new ConcurrentHashMap<>();
+    this.current = new BloomFilter(this.expectedRevocations, FALSE_POSITIVE_RATE);
+    this.previous = new BloomFilter(this.expectedRevocations, FALSE_POSITIVE_RATE);
+    this.rotatedAt = System.currentTimeMillis();
+  }
+
+  public void add(String jti, long expiresAt) {
+    if (expiresAt <= System.currentTimeMillis()) {
+      return;
+    }
+
+    long hash = hash(jti);
+    current.add(hash);
+    if (revoked.size() < expectedRevocations) {
+      revoked.merge(jti, expiresAt, Math::max);
+    }
+  }
+
+  /** False means certainly not revoked; true means revoked, or a false positive of the filter. */
+  public boolean mightBeRevoked(String jti) {
+    long hash = hash(jti);
+    return current.mightContain(hash) || previous.mightContain(hash);
+  }
+
+  /** Exact answer for ids held in the set, false for ids only present in the filter. */
+  public boolean isRevoked(String jti) {
+    Long expiresAt = revoked.get(jti);
+    return expiresAt != null && expiresAt > System.currentTimeMillis();
+  }
+
+  /** Drops expired ids from the exact set and starts a new filter generation once the current one is due. */
+  public synchronized void evictExpired(long now) {
+    revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+    if (now - rotatedAt >= generationMillis) {
+      previous = current;
+      current = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+      rotatedAt = now;
+    }
+  }
+
+  public int size() {
+    return revoked.size();
+  }
+
+  /** 64 bit FNV-1a over the chars of the id, finished with the murmur3 mixer. */
+  private static long hash(String jti) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < jti.length(); i++) {
+      hash ^= jti.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * Lock-free Bloom filter over {@code long} words. Probes use double hashing,
+   * the two halves of the hash giving the start and the stride.
+   */
+  private static final class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int probes;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+      long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      int wordCount = (int) Math.max((optimalBits + 63) / 64, 1);
+      this.words = new AtomicLongArray(wordCount);
+      this.bits = wordCount * 64L;
+      this.probes = Math.max((int) Math.round((double) bits / expectedInsertions * Math.log(2)), 1);
+    }
+
+    void add(long hash) {
+      long start = hash >>> 32;
+      long stride = (hash & 0xffffffffL) | 1;
+      for (int i = 0; i < probes; i++) {
+        long bit = (start + i * stride) % bits;
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+
+        long value = words.get(word);
+        while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+          value = words.get(word);
+        }
+      }
+    }
+
+    boolean mightContain(long hash) {
+      long start = hash >>> 32;
+      long stride = (hash & 0xffffffffL) | 1;
+      for (int i = 0; i < probes; i++) {
+        long bit = (start + i * stride) % bits;
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.todo.jwt;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.shared.UuidGenerator;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revokes access tokens by their jti. Checks go to the in-memory {@link TokenRevocationList} and
+ * only reach the revocation table on a filter hit the exact set cannot answer. Revocations made
+ * by other instances are picked up by {@link #sync()}, so they apply there within one sync interval.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class TokenRevocationService {
+  // Re-reads a little of the previous window, rows committed late or stamped by a lagging clock are not missed.
+  private static final long SYNC_OVERLAP_SECONDS = 30;
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final TokenRevocationList revocationList;
+  private volatile Instant lastSync = Instant.EPOCH;
+
+  public TokenRevocationService(
+    RevokedTokenRepository revokedTokenRepository,
+    @Value("${jwt.expiration-seconds}") long expirationSeconds,
+    @Value("${jwt.revocation-capacity:100000}") int revocationCapacity
+  ) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.revocationList = new TokenRevocationList(revocationCapacity, expirationSeconds * 1000);
+  }
+
+  /** Tokens issued without a jti predate revocation and simply run out. */
+  public boolean isRevoked(Claims claims) {
+    String jti = claims.getId();
+    if (jti == null || !revocationList.mightBeRevoked(jti)) {
+      return false;
+    }
+
+    if (revocationList.isRevoked(jti)) {
+      return true;
+    }
+
+    return UuidGenerator.parse(jti).map(revokedTokenRepository::existsById).orElse(false);
+  }
+
+  public void revoke(Claims claims) {
+    Optional<UUID> jti = UuidGenerator.parse(claims.getId());
+    if (jti.isEmpty()) {
+      log.warn("Token of user=`{}` has no jti and cannot be revoked", claims.getSubject());
+      return;
+    }
+
+    Instant expiresAt = claims.getExpiration().toInstant();
+    revokedTokenRepository.insert(jti.get(), expiresAt, Instant.now());
+    revocationList.add(claims.getId(), expiresAt.toEpochMilli());
+    log.info("Revoked token jti=`{}` of user=`{}`", claims.getId(), claims.getSubject());
+  }
+
+  /** Loads revocations of all instances, the first run at startup reads every unexpired one. */
+  @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval:PT5S}")
+  public void sync() {
+    Instant now = Instant.now();
+    revokedTokenRepository.findRevokedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS), now)
+      .forEach(revokedToken -> revocationList.add(revokedToken.getJti().toString(), revokedToken.getExpiresAt().toEpochMilli()));
+
+    revocationList.evictExpired(now.toEpochMilli());
+    lastSync = now;
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.purge-interval:PT1H}", initialDelayString = "${jwt.purge-interval:PT1H}")
+  public void purgeExpired() {
+    int purged = revokedTokenRepository.deleteExpired(Instant.now());
+    if (purged > 0) {
+      log.info("Purged {} expired token revocations", purged);
+    }
+  }
+}
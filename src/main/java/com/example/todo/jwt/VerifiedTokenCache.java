@@ -0,0 +1,97 @@
+package com.example.todo.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Bounded cache of already verified tokens, keyed by the SHA-256 digest of the token
+ * so raw bearer tokens are never retained. Each entry expires with its token, and once
+ * the cache is full an insert evicts by Caffeine's size policy instead of scanning.
+ */
+public class VerifiedTokenCache {
+  // Cloned per call instead of cached in a ThreadLocal, on virtual threads every request would get its own copy anyway.
+  private static final MessageDigest SHA_256;
+
+  static {
+    try {
+      SHA_256 = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private final Cache<Digest, Claims> entries;
+
+  public VerifiedTokenCache(int maxSize) {
+    this.entries = maxSize <= 0 ? null : Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfter(new UntilTokenExpiry())
+      // Maintenance runs on the calling thread in small amortized steps, no pool hand-off per request.
+      .executor(Runnable::run)
+      .build();
+  }
+
+  public Claims get(String token) {
+    if (entries == null) {
+      return null;
+    }
+    return entries.getIfPresent(digest(token));
+  }
+
+  public void put(String token, Claims claims) {
+    if (entries == null || claims.getExpiration() == null || claims.getExpiration().getTime() <= System.currentTimeMillis()) {
+      return;
+    }
+    entries.put(digest(token), claims);
+  }
+
+  public long size() {
+    if (entries == null) {
+      return 0;
+    }
+    entries.cleanUp();
+    return entries.estimatedSize();
+  }
+
+  private static Digest digest(String token) {
+    ByteBuffer hash = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    return new Digest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return (MessageDigest) SHA_256.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Digest(long h1, long h2, long h3, long h4) {}
+
+  private static final class UntilTokenExpiry implements Expiry<Digest, Claims> {
+    @Override
+    public long expireAfterCreate(Digest key, Claims claims, long currentTime) {
+      long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    @Override
+    public long expireAfterUpdate(Digest key, Claims claims, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Digest key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.todo.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Puts a request id in the MDC under {@value #MDC_KEY} for every log line of the request, and returns it in
+ * {@value #HEADER}. An id sent by a proxy or client is kept when it is short and plain, otherwise a new one
+ * is generated so a caller cannot forge log content.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+  public static final String HEADER = "X-Request-Id";
+  public static final String MDC_KEY = "requestId";
+
+  private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    String requestId = request.getHeader(HEADER);
+    if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+      requestId = UUID.randomUUID().toString();
+    }
+
+    MDC.put(MDC_KEY, requestId);
+    response.setHeader(HEADER, requestId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.todo.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.todo.auth.AuthRequestDto;
+import com.example.todo.auth.AuthResponseDto;
+import com.example.todo.auth.RefreshRequestDto;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/todo-api/v1/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+public class ReactiveAuthController {
+  private final ReactiveAuthService authService;
+
+  @PostMapping("/sign-up")
+  public Mono<ResponseEntity<AuthResponseDto>> signUp(@RequestBody AuthRequestDto request) {
+    return authService.signUp(request).map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @PostMapping("/login")
+  public Mono<ResponseEntity<AuthResponseDto>> login(@RequestBody AuthRequestDto request) {
+    return authService.login(request).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @PostMapping("/refresh")
+  public Mono<ResponseEntity<AuthResponseDto>> refresh(@RequestBody RefreshRequestDto request) {
+    return authService.refresh(request).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @PostMapping("/revoke")
+  public Mono<ResponseEntity<Void>> revoke(@RequestBody RefreshRequestDto request) {
+    return authService.revoke(request).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+  }
+
+  @PostMapping("/logout")
+  public Mono<ResponseEntity<Void>> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization, @RequestBody(required = false) RefreshRequestDto request) {
+    return authService.logout(authorization, request).thenReturn(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+  }
+}
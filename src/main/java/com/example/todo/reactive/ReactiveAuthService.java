@@ -0,0 +1,104 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.auth.AuthRequestDto;
+import com.example.todo.auth.AuthResponseDto;
+import com.example.todo.auth.RefreshRequestDto;
+import com.example.todo.exception.TodoException;
+import com.example.todo.jwt.JwtService;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@Slf4j
+public class ReactiveAuthService {
+  private final ReactiveUserRepository userRepository;
+
+  private final PasswordEncoder passwordEncoder;
+  private final ReactiveAuthenticationManager authenticationManager;
+
+  private final JwtService jwtService;
+  private final ReactiveRefreshTokenService refreshTokenService;
+  private final ReactiveTokenRevocationService tokenRevocationService;
+  private final UuidGenerator uuidGenerator;
+
+  public Mono<AuthResponseDto> signUp(final AuthRequestDto request) {
+    return Mono.fromCallable(() -> passwordEncoder.encode(request.password()))
+      .subscribeOn(Schedulers.boundedElastic())
+      .flatMap(password -> userRepository.insert(uuidGenerator.randomUUID(), request.email(), password, Instant.now()))
+      .onErrorMap(DataIntegrityViolationException.class, e -> {
+        log.error("User with email=`{}` already exist", request.email());
+        return new TodoException("Duplicate Entry", String.format("User with email=`%s` already exist", request.email()));
+      })
+      .flatMap(record -> {
+        log.info("User created with email=`{}`", request.email());
+        User user = record.toUser();
+        return refreshTokenService.issue(user).map(refreshToken -> new AuthResponseDto(request.email(), jwtService.generateToken(user), refreshToken));
+      });
+  }
+
+  public Mono<AuthResponseDto> login(final AuthRequestDto request) {
+    return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.email(), request.password()))
+      .onErrorMap(AuthenticationException.class, e -> {
+        log.error("Invalid credentials for login, username=`{}`.", request.email());
+        return new BadCredentialsException("Invalid username or password");
+      })
+      .flatMap(authentication -> {
+        log.info("User authenticated for, username=`{}`.", request.email());
+        User user = (User) authentication.getPrincipal();
+        return refreshTokenService.issue(user).map(refreshToken -> new AuthResponseDto(request.email(), jwtService.generateToken(user), refreshToken));
+      });
+  }
+
+  public Mono<AuthResponseDto> refresh(final RefreshRequestDto request) {
+    return refreshTokenService.rotate(request.refreshToken()).map(rotated -> {
+      User user = rotated.user();
+      log.info("Access token refreshed for, username=`{}`.", user.getEmail());
+      return new AuthResponseDto(user.getEmail(), jwtService.generateToken(user), rotated.refreshToken());
+    });
+  }
+
+  public Mono<Void> revoke(final RefreshRequestDto request) {
+    return refreshTokenService.revoke(request.refreshToken());
+  }
+
+  public Mono<Void> logout(final String authorization, final RefreshRequestDto request) {
+    Claims claims = jwtService.parse(authorization.substring(7));
+    return tokenRevocationService.revoke(claims)
+      .then(request == null ? Mono.empty() : refreshTokenService.revoke(request.refreshToken()))
+      .doOnSuccess(done -> log.info("User logged out, username=`{}`.", claims.getSubject()));
+  }
+
+  public Mono<User> getCurrentUser() {
+    return ReactiveSecurityContextHolder.getContext()
+      .map(SecurityContext::getAuthentication)
+      .map(Authentication::getPrincipal)
+      .filter(User.class::isInstance)
+      .cast(User.class)
+      .switchIfEmpty(Mono.error(() -> {
+        log.error("User is not authenticated");
+        return new TodoException("Unauthorize Session", "User is not authenticated");
+      }));
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.example.todo.exception.ExceptionDto;
+import com.example.todo.jwt.JwtService;
+import com.example.todo.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.example.todo.jwt.JwtFilter}. Not a bean, WebFlux would
+ * otherwise run every WebFilter bean a second time outside the security chain.
+ */
+@AllArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+  private final JwtService jwtService;
+  private final ReactiveTokenRevocationService tokenRevocationService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String token = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (token == null || !token.startsWith("Bearer ")) {
+      return chain.filter(exchange);
+    }
+
+    Claims claims;
+    UsernamePasswordAuthenticationToken authenticationToken;
+    try {
+      claims = jwtService.parse(token.substring(7));
+      User user = jwtService.getUser(claims);
+      authenticationToken = new UsernamePasswordAuthenticationToken(user, null, jwtService.getAuthorities(claims));
+    } catch (Exception e) {
+      return unauthorized(exchange.getResponse());
+    }
+
+    return tokenRevocationService.isRevoked(claims).flatMap(revoked -> revoked
+      ? unauthorized(exchange.getResponse())
+      : chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticationToken)));
+  }
+
+  private Mono<Void> unauthorized(ServerHttpResponse response) {
+    ExceptionDto body = new ExceptionDto(Instant.now(), HttpStatus.UNAUTHORIZED.value(), "Jwt Forbidden", "Invalid JWT token");
+    try {
+      DataBuffer buffer = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body));
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      return response.writeWith(Mono.just(buffer));
+    } catch (JsonProcessingException e) {
+      return Mono.error(e);
+    }
+  }
+}
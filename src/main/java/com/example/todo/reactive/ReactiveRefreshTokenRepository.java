@@ -0,0 +1,41 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveRefreshTokenRepository extends R2dbcRepository<RefreshTokenRecord, Long> {
+  /** Ids come from the sequence Hibernate allocates from, see {@link ReactiveUserRepository#insert}. */
+  @Modifying
+  @Query("""
+    insert into refresh_token (id, token_hash, family_id, app_user_id, expires_at, created_at, updated_at)
+    values (nextval('refresh_token_generator_sequence'), :tokenHash, :familyId, :appUserId, :expiresAt, :createdAt, :createdAt)
+    """)
+  Mono<Integer> insert(String tokenHash, UUID familyId, Long appUserId, Instant expiresAt, Instant createdAt);
+
+  @Query("""
+    select r.id, r.family_id, r.app_user_id, r.expires_at, r.used_at, r.revoked_at, u.uuid as user_uuid, u.email as user_email
+    from refresh_token r join app_user u on u.id = r.app_user_id
+    where r.token_hash = :tokenHash
+    """)
+  Mono<RefreshTokenRecord> findByTokenHash(String tokenHash);
+
+  @Modifying
+  @Query("update refresh_token set used_at = :usedAt, updated_at = :usedAt where id = :id and used_at is null and revoked_at is null")
+  Mono<Integer> markUsed(Long id, Instant usedAt);
+
+  @Modifying
+  @Query("update refresh_token set revoked_at = :revokedAt, updated_at = :revokedAt where family_id = :familyId and revoked_at is null")
+  Mono<Integer> revokeFamily(UUID familyId, Instant revokedAt);
+
+  @Modifying
+  @Query("delete from refresh_token where expires_at < :now")
+  Mono<Integer> deleteExpired(Instant now);
+}
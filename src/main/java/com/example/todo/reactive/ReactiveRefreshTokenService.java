@@ -0,0 +1,104 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todo.auth.RefreshTokenService;
+import com.example.todo.auth.RefreshTokens;
+import com.example.todo.auth.RotatedRefreshToken;
+import com.example.todo.exception.InvalidTokenException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link RefreshTokenService}, with the same rotation and reuse detection.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveRefreshTokenService {
+  private final ReactiveRefreshTokenRepository refreshTokenRepository;
+  private final UuidGenerator uuidGenerator;
+  private final long expirationSeconds;
+
+  public ReactiveRefreshTokenService(
+    ReactiveRefreshTokenRepository refreshTokenRepository,
+    UuidGenerator uuidGenerator,
+    @Value("${jwt.refresh-expiration-seconds:1209600}") long expirationSeconds
+  ) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.uuidGenerator = uuidGenerator;
+    this.expirationSeconds = expirationSeconds;
+  }
+
+  public Mono<String> issue(User user) {
+    return issue(user.getId(), uuidGenerator.randomUUID(), Instant.now());
+  }
+
+  @Transactional(noRollbackFor = InvalidTokenException.class)
+  public Mono<RotatedRefreshToken> rotate(String token) {
+    return find(token).flatMap(current -> {
+      Instant now = Instant.now();
+      if (current.revokedAt() != null || current.expiresAt().isBefore(now)) {
+        return Mono.error(invalidToken());
+      }
+
+      return refreshTokenRepository.markUsed(current.id(), now).flatMap(updated -> {
+        if (updated == 0) {
+          return refreshTokenRepository.revokeFamily(current.familyId(), now)
+            .doOnNext(revoked -> log.warn("Reuse of refresh token detected, revoked family=`{}` of user=`{}`", current.familyId(), current.userEmail()))
+            .then(Mono.error(invalidToken()));
+        }
+
+        return issue(current.appUserId(), current.familyId(), now)
+          .map(refreshToken -> new RotatedRefreshToken(current.toUser(), refreshToken));
+      });
+    });
+  }
+
+  public Mono<Void> revoke(String token) {
+    if (token == null || token.isBlank()) {
+      return Mono.empty();
+    }
+
+    return refreshTokenRepository.findByTokenHash(RefreshTokens.hash(token))
+      .flatMap(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.familyId(), Instant.now())
+        .doOnNext(revoked -> log.info("Revoked refresh token family=`{}` of user=`{}`", refreshToken.familyId(), refreshToken.userEmail())))
+      .then();
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.purge-interval:PT1H}", initialDelayString = "${jwt.purge-interval:PT1H}")
+  public Mono<Void> purgeExpired() {
+    return refreshTokenRepository.deleteExpired(Instant.now())
+      .filter(purged -> purged > 0)
+      .doOnNext(purged -> log.info("Purged {} expired refresh tokens", purged))
+      .then();
+  }
+
+  private Mono<String> issue(Long userId, UUID familyId, Instant now) {
+    String token = RefreshTokens.generate();
+    return refreshTokenRepository.insert(RefreshTokens.hash(token), familyId, userId, now.plusSeconds(expirationSeconds), now)
+      .thenReturn(token);
+  }
+
+  private Mono<RefreshTokenRecord> find(String token) {
+    if (token == null || token.isBlank()) {
+      return Mono.error(invalidToken());
+    }
+
+    return refreshTokenRepository.findByTokenHash(RefreshTokens.hash(token)).switchIfEmpty(Mono.error(this::invalidToken));
+  }
+
+  private InvalidTokenException invalidToken() {
+    return new InvalidTokenException("Invalid Token", "Refresh token is invalid, expired or revoked");
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveRevokedTokenRepository extends R2dbcRepository<RevokedTokenRecord, UUID> {
+  @Modifying
+  @Query("insert into revoked_token (jti, expires_at, revoked_at) values (:jti, :expiresAt, :revokedAt) on conflict do nothing")
+  Mono<Integer> insert(UUID jti, Instant expiresAt, Instant revokedAt);
+
+  @Query("select * from revoked_token where revoked_at > :since and expires_at > :now")
+  Flux<RevokedTokenRecord> findRevokedSince(Instant since, Instant now);
+
+  @Modifying
+  @Query("delete from revoked_token where expires_at < :now")
+  Mono<Integer> deleteExpired(Instant now);
+}
@@ -0,0 +1,98 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.example.todo.jwt.JwtService;
+import com.example.todo.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Same rules as {@link com.example.todo.config.SecurityConfig}: stateless, JWT authenticated,
+ * and 403 for requests without a valid token.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+  @Bean
+  public SecurityWebFilterChain securityWebFilterChain(
+    ServerHttpSecurity http,
+    JwtService jwtService,
+    ReactiveTokenRevocationService tokenRevocationService,
+    ObjectMapper objectMapper
+  ) {
+    http.csrf(csrf -> csrf.disable());
+    http.httpBasic(httpBasic -> httpBasic.disable());
+    http.formLogin(formLogin -> formLogin.disable());
+
+    http.authorizeExchange(exchange -> {
+      exchange.pathMatchers("/error").permitAll();
+      // Scraped without a token, only matches on management.server.port.
+      exchange.matchers(EndpointRequest.to("health", "prometheus")).permitAll();
+      exchange.pathMatchers("/todo-api/v1/auth/logout").authenticated();
+      exchange.pathMatchers("/todo-api/v1/auth/**").permitAll();
+      exchange.pathMatchers("/todo/**").permitAll();
+      exchange.anyExchange().authenticated();
+    });
+
+    http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+    http.exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)));
+
+    http.addFilterAt(new ReactiveJwtFilter(jwtService, tokenRevocationService, objectMapper), SecurityWebFiltersOrder.AUTHENTICATION);
+    return http.build();
+  }
+
+  @Bean
+  public ReactiveUserDetailsService reactiveUserDetailsService(ReactiveUserRepository userRepository) {
+    return username -> userRepository.findByEmail(username).map(UserRecord::toUser);
+  }
+
+  /**
+   * Stores the rehashed password after a login with a hash of an older cost factor.
+   */
+  @Bean
+  public ReactiveUserDetailsPasswordService reactiveUserDetailsPasswordService(ReactiveUserRepository userRepository) {
+    return (user, newPassword) -> userRepository.updatePassword(user.getUsername(), newPassword, Instant.now()).then(Mono.fromSupplier(() -> {
+      if (user instanceof User appUser) {
+        appUser.setPassword(newPassword);
+      }
+      return user;
+    }));
+  }
+
+  /**
+   * BCrypt is deliberately slow, so the password check runs on the bounded elastic scheduler instead of an event loop thread.
+   */
+  @Bean
+  public ReactiveAuthenticationManager reactiveAuthenticationManager(
+    ReactiveUserDetailsService userDetailsService,
+    ReactiveUserDetailsPasswordService userDetailsPasswordService,
+    PasswordEncoder passwordEncoder
+  ) {
+    UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+    authenticationManager.setPasswordEncoder(passwordEncoder);
+    authenticationManager.setUserDetailsPasswordService(userDetailsPasswordService);
+    authenticationManager.setScheduler(Schedulers.boundedElastic());
+    return authenticationManager;
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoBatchItemDto;
+import com.example.todo.todo.TodoBatchResponseDto;
+import com.example.todo.todo.TodoBatchResult;
+import com.example.todo.todo.TodoBatchService;
+import com.example.todo.todo.TodoRequestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link TodoBatchService}, each call is one statement over all the given todos.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@Slf4j
+public class ReactiveTodoBatchService {
+  private final ReactiveTodoRepository todoRepository;
+
+  private final ReactiveAuthService authService;
+  private final UuidGenerator uuidGenerator;
+
+  @Transactional
+  public Mono<TodoBatchResponseDto> addTodos(List<TodoRequestDto> requests) {
+    return authService.getCurrentUser().flatMap(user -> {
+      checkBatchSize(requests);
+      requests.forEach(request -> {
+        if (request.title() == null || request.title().isBlank()) {
+          throw new TodoException("Invalid Batch", "title cannot be blank");
+        }
+      });
+
+      Instant now = Instant.now();
+      List<TodoRecord> todos = requests.stream()
+        .map(request -> new TodoRecord(null, uuidGenerator.randomUUID(), request.title(), Status.PENDING, user.getId(), now, now, null))
+        .toList();
+
+      log.info("Adding {} todos in batch", todos.size());
+      return todoRepository.insertAll(todos)
+        .map(todo -> new TodoBatchItemDto(todo.uuid().toString(), TodoBatchResult.CREATED, todo.toDto()))
+        .collectList()
+        .map(TodoBatchResponseDto::new);
+    });
+  }
+
+  public Mono<TodoBatchResponseDto> getTodos(List<String> ids) {
+    return authService.getCurrentUser().flatMap(user -> {
+      Collection<String> uuids = distinct(ids);
+      return findTodos(uuids, found -> todoRepository.findByAppUserIdAndUuidIn(user.getId(), found)).map(todos -> {
+        log.info("Fetching {} todos in batch", uuids.size());
+        return response(uuids, todos, TodoBatchResult.FOUND);
+      });
+    });
+  }
+
+  public Mono<TodoBatchResponseDto> update(List<String> ids, Status status) {
+    return authService.getCurrentUser().flatMap(user -> {
+      Collection<String> uuids = distinct(ids);
+      return findTodos(uuids, found -> todoRepository.updateStatusByUserIdAndUuidIn(user.getId(), found, status.name(), Instant.now())).map(todos -> {
+        log.info("Changed status of {} todos in batch", todos.size());
+        return response(uuids, todos, TodoBatchResult.UPDATED);
+      });
+    });
+  }
+
+  public Mono<TodoBatchResponseDto> delete(List<String> ids) {
+    return authService.getCurrentUser().flatMap(user -> {
+      Collection<String> uuids = distinct(ids);
+      List<UUID> parsed = parse(uuids);
+      Mono<Set<String>> deleted = parsed.isEmpty()
+        ? Mono.just(Set.of())
+        : todoRepository.deleteByUserIdAndUuidIn(user.getId(), parsed).map(UUID::toString).collect(Collectors.toSet());
+
+      return deleted.map(found -> {
+        log.info("Deleted {} todos in batch", found.size());
+        return new TodoBatchResponseDto(uuids.stream()
+          .map(uuid -> found.contains(uuid) ? new TodoBatchItemDto(uuid, TodoBatchResult.DELETED, null) : notFound(uuid))
+          .toList());
+      });
+    });
+  }
+
+  private Mono<Map<String, TodoRecord>> findTodos(Collection<String> ids, Function<List<UUID>, Flux<TodoRecord>> query) {
+    List<UUID> uuids = parse(ids);
+    if (uuids.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
+    return query.apply(uuids).collectMap(todo -> todo.uuid().toString());
+  }
+
+  private TodoBatchResponseDto response(Collection<String> uuids, Map<String, TodoRecord> todos, TodoBatchResult result) {
+    return new TodoBatchResponseDto(uuids.stream()
+      .map(uuid -> todos.containsKey(uuid) ? new TodoBatchItemDto(uuid, result, todos.get(uuid).toDto()) : notFound(uuid))
+      .toList());
+  }
+
+  private List<UUID> parse(Collection<String> ids) {
+    return ids.stream().flatMap(id -> UuidGenerator.parse(id).stream()).toList();
+  }
+
+  private Collection<String> distinct(List<String> ids) {
+    checkBatchSize(ids);
+    return ids.stream()
+      .map(id -> UuidGenerator.parse(id).map(UUID::toString).orElse(id))
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private void checkBatchSize(List<?> items) {
+    if (items == null || items.isEmpty()) {
+      throw new TodoException("Invalid Batch", "Batch cannot be empty");
+    }
+
+    if (items.size() > TodoBatchService.MAX_BATCH_SIZE) {
+      throw new TodoException("Invalid Batch", String.format("Batch cannot contain more than %d items", TodoBatchService.MAX_BATCH_SIZE));
+    }
+  }
+
+  private TodoBatchItemDto notFound(String uuid) {
+    return new TodoBatchItemDto(uuid, TodoBatchResult.NOT_FOUND, null);
+  }
+}
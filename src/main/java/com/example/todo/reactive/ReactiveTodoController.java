@@ -0,0 +1,177 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoBatchResponseDto;
+import com.example.todo.todo.TodoETags;
+import com.example.todo.todo.TodoField;
+import com.example.todo.todo.TodoFieldFilter;
+import com.example.todo.todo.TodoImportResponseDto;
+import com.example.todo.todo.TodoRequestDto;
+import com.example.todo.todo.TodoResponseDto;
+import com.example.todo.todo.TodoServcie;
+import com.example.todo.todo.TodoTransitionRequestDto;
+import com.example.todo.todo.TodoTransitionResponseDto;
+import com.example.todo.user.User;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same routes, status codes and bodies as {@link com.example.todo.todo.TodoController}.
+ */
+@RestController
+@RequestMapping("/todo-api/v1/todo")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+public class ReactiveTodoController {
+  private final ReactiveTodoService todoService;
+  private final ReactiveTodoTransferService todoTransferService;
+  private final ReactiveTodoBatchService todoBatchService;
+
+  @GetMapping()
+  public Mono<ResponseEntity<MappingJacksonValue>> getTodos(
+    @RequestParam(name = "cursor", required = false) String cursor,
+    @RequestParam(name = "limit", defaultValue = "" + TodoServcie.DEFAULT_PAGE_SIZE) Integer limit,
+    @RequestParam(name = "status", required = false) Status status,
+    @RequestParam(name = "sort", defaultValue = "asc") String sort,
+    @RequestParam(name = "fields", required = false) String fields,
+    @AuthenticationPrincipal User user,
+    ServerWebExchange exchange
+  ) {
+    Set<TodoField> selected = TodoField.parse(fields);
+    return todoService.getTodosVersion().flatMap(version -> {
+      String eTag = TodoETags.ofList(user.getId(), version.version(), cursor, limit, String.valueOf(status), sort, selected.toString());
+      if (isNotModified(exchange, eTag, version.updatedAt())) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+      }
+
+      return todoService.getTodos(cursor, limit, status, sort, fields)
+        .map(page -> ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(page, selected)));
+    });
+  }
+
+  @GetMapping(params = "unpaged=true")
+  public Mono<ResponseEntity<MappingJacksonValue>> getAllTodos(
+    @RequestParam(name = "fields", required = false) String fields,
+    @AuthenticationPrincipal User user,
+    ServerWebExchange exchange
+  ) {
+    Set<TodoField> selected = TodoField.parse(fields);
+    return todoService.getTodosVersion().flatMap(version -> {
+      String eTag = TodoETags.ofList(user.getId(), version.version(), "unpaged", selected.toString());
+      if (isNotModified(exchange, eTag, version.updatedAt())) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+      }
+
+      return todoService.getTodos(fields).collectList()
+        .map(todos -> ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(todos, selected)));
+    });
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<TodoResponseDto> exportTodos(ServerWebExchange exchange) {
+    exchange.getResponse().getHeaders().set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+    return todoTransferService.exportTodos();
+  }
+
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public Mono<ResponseEntity<TodoImportResponseDto>> importTodos(@RequestBody Flux<String> body) {
+    return todoTransferService.importTodos(body).map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @GetMapping("/batch")
+  public Mono<ResponseEntity<TodoBatchResponseDto>> getTodos(@RequestParam(name = "ids") List<String> ids) {
+    return todoBatchService.getTodos(ids).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @PostMapping("/batch")
+  public Mono<ResponseEntity<TodoBatchResponseDto>> addTodos(@RequestBody List<TodoRequestDto> request) {
+    return todoBatchService.addTodos(request).map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+  }
+
+  @PutMapping("/batch/status/{status}")
+  public Mono<ResponseEntity<TodoBatchResponseDto>> changeStatus(@PathVariable(name = "status") Status status, @RequestBody List<String> ids) {
+    return todoBatchService.update(ids, status).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @DeleteMapping("/batch")
+  public Mono<ResponseEntity<TodoBatchResponseDto>> delete(@RequestParam(name = "ids") List<String> ids) {
+    return todoBatchService.delete(ids).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<MappingJacksonValue>> getTodo(@PathVariable(name = "id") String id, @RequestParam(name = "fields", required = false) String fields, ServerWebExchange exchange) {
+    Set<TodoField> selected = TodoField.parse(fields);
+    return todoService.getTodoVersion(id).flatMap(version -> {
+      String eTag = TodoETags.ofTodo(version.version(), selected.toString());
+      if (isNotModified(exchange, eTag, version.updatedAt())) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+      }
+
+      return todoService.getTodo(id, fields)
+        .map(todo -> ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(todo, selected)));
+    });
+  }
+
+  @PostMapping()
+  public Mono<ResponseEntity<TodoResponseDto>> addTodo(@RequestBody TodoRequestDto request) {
+    return todoService.addTodo(request).map(todo -> ResponseEntity.status(HttpStatus.CREATED).body(todo));
+  }
+
+  @PutMapping("/status")
+  public Mono<ResponseEntity<TodoTransitionResponseDto>> changeStatus(@RequestBody TodoTransitionRequestDto request) {
+    return todoService.transition(request).map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  @PutMapping("/{id}/status/{status}")
+  public Mono<ResponseEntity<TodoResponseDto>> changeStatus(
+    @PathVariable(name = "id") String id,
+    @PathVariable(name = "status") Status status,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return todoService.update(id, status, TodoETags.expectedVersion(id, ifMatch)).map(todo -> ResponseEntity.status(HttpStatus.OK).body(todo));
+  }
+
+  @PutMapping("/{id}")
+  public Mono<ResponseEntity<TodoResponseDto>> update(
+    @PathVariable(name = "id") String id,
+    @RequestBody TodoRequestDto request,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return todoService.update(id, request, TodoETags.expectedVersion(id, ifMatch)).map(todo -> ResponseEntity.status(HttpStatus.OK).body(todo));
+  }
+
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<Void>> delete(@PathVariable(name = "id") String id) {
+    return todoService.delete(id).then(Mono.just(ResponseEntity.status(HttpStatus.OK).<Void>body(null)));
+  }
+
+  /** Sets ETag and Last-Modified on the response, and the 304 status when the client copy is current. */
+  private static boolean isNotModified(ServerWebExchange exchange, String eTag, Instant lastModified) {
+    return lastModified == null ? exchange.checkNotModified(eTag) : exchange.checkNotModified(eTag, lastModified);
+  }
+}
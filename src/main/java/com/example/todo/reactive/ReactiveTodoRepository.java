@@ -0,0 +1,80 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo.todo.TodoVersion;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Status values are bound as their names, the column is a varchar.
+ */
+@Repository
+public interface ReactiveTodoRepository extends R2dbcRepository<TodoRecord, Long>, ReactiveTodoRepositoryCustom {
+  Mono<TodoRecord> findByUuid(UUID uuid);
+  Mono<TodoRecord> findByAppUserIdAndUuid(Long appUserId, UUID uuid);
+  Flux<TodoRecord> findByAppUserIdAndUuidIn(Long appUserId, Collection<UUID> uuids);
+  Flux<TodoRecord> findByAppUserIdOrderByCreatedAtAscIdAsc(Long appUserId);
+  Mono<Boolean> existsByAppUserIdAndUuid(Long appUserId, UUID uuid);
+
+  @Query("select version, coalesce(updated_at, created_at) as updated_at from todo_list where uuid = :uuid and app_user_id = :userId")
+  Mono<TodoVersion> findVersionByUuid(Long userId, UUID uuid);
+
+  @Query("""
+    update todo_list set status = :status, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId
+    returning *
+    """)
+  Mono<TodoRecord> updateStatusByUuid(Long userId, UUID uuid, String status, Instant updatedAt);
+
+  @Query("""
+    update todo_list set status = :status, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId and version = :version
+    returning *
+    """)
+  Mono<TodoRecord> updateStatusByUuidAndVersion(Long userId, UUID uuid, String status, Long version, Instant updatedAt);
+
+  @Query("""
+    update todo_list set title = :title, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId
+    returning *
+    """)
+  Mono<TodoRecord> updateTitleByUuid(Long userId, UUID uuid, String title, Instant updatedAt);
+
+  @Query("""
+    update todo_list set title = :title, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId and version = :version
+    returning *
+    """)
+  Mono<TodoRecord> updateTitleByUuidAndVersion(Long userId, UUID uuid, String title, Long version, Instant updatedAt);
+
+  @Query("""
+    update todo_list set status = :status, updated_at = :updatedAt, version = version + 1
+    where app_user_id = :userId and uuid in (:uuids)
+    returning *
+    """)
+  Flux<TodoRecord> updateStatusByUserIdAndUuidIn(Long userId, Collection<UUID> uuids, String status, Instant updatedAt);
+
+  @Modifying
+  @Query("update todo_list set status = :to, updated_at = :updatedAt, version = version + 1 where app_user_id = :userId and status = :from")
+  Mono<Integer> updateStatus(Long userId, String from, String to, Instant updatedAt);
+
+  @Modifying
+  @Query("update todo_list set status = :to, updated_at = :updatedAt, version = version + 1 where app_user_id = :userId and status = :from and created_at < :createdBefore")
+  Mono<Integer> updateStatusCreatedBefore(Long userId, String from, String to, Instant createdBefore, Instant updatedAt);
+
+  @Modifying
+  @Query("delete from todo_list where uuid = :uuid and app_user_id = :userId")
+  Mono<Integer> deleteByUuid(Long userId, UUID uuid);
+
+  @Query("delete from todo_list where app_user_id = :userId and uuid in (:uuids) returning uuid")
+  Flux<UUID> deleteByUserIdAndUuidIn(Long userId, Collection<UUID> uuids);
+}
@@ -0,0 +1,43 @@
+package com.example.todo.reactive;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoCursor;
+import com.example.todo.todo.TodoField;
+import com.example.todo.todo.TodoPageDto;
+import com.example.todo.todo.TodoResponseDto;
+import com.example.todo.todo.TodoVersion;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTodoRepositoryCustom {
+  /**
+   * Inserts the todos with one batched statement and returns them in the given order. The ids are drawn
+   * from {@code todo_generator_sequence} the same way as in {@link ReactiveUserRepository#insert}.
+   */
+  Flux<TodoRecord> insertAll(List<TodoRecord> todos);
+
+  /**
+   * Reads the user's todo list version, which the database bumps on every insert, update or delete of their todos.
+   */
+  Mono<TodoVersion> findListVersion(Long userId);
+
+  /**
+   * Selects only the requested fields of a user's todos; fields that were not requested are null.
+   */
+  Flux<TodoResponseDto> findFieldsByUserId(Long userId, Set<TodoField> fields);
+
+  Mono<TodoResponseDto> findFieldsByUuid(Long userId, UUID uuid, Set<TodoField> fields);
+
+  /**
+   * Reads one keyset page ordered by {@code (created_at, id)} in the given direction, starting
+   * after {@code cursor} when present. The next cursor is set only if more rows follow.
+   */
+  Mono<TodoPageDto> findPage(Long userId, Status status, TodoCursor cursor, Sort.Direction direction, int limit, Set<TodoField> fields);
+}
@@ -0,0 +1,144 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoCursor;
+import com.example.todo.todo.TodoField;
+import com.example.todo.todo.TodoPageDto;
+import com.example.todo.todo.TodoResponseDto;
+import com.example.todo.todo.TodoVersion;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class ReactiveTodoRepositoryCustomImpl implements ReactiveTodoRepositoryCustom {
+  private static final String INSERT_SQL = """
+    insert into todo_list (id, uuid, title, status, app_user_id, created_at, updated_at, version)
+    values (nextval('todo_generator_sequence'), $1, $2, $3, $4, $5, $5, 0)
+    returning *
+    """;
+
+  private static final String LIST_VERSION_SQL = "select version, updated_at from todo_list_version where app_user_id = :userId";
+
+  private final DatabaseClient databaseClient;
+  private final R2dbcConverter converter;
+
+  @Override
+  public Flux<TodoRecord> insertAll(List<TodoRecord> todos) {
+    if (todos.isEmpty()) {
+      return Flux.empty();
+    }
+
+    return databaseClient.inConnectionMany(connection -> {
+      Statement statement = connection.createStatement(INSERT_SQL);
+      for (int i = 0; i < todos.size(); i++) {
+        TodoRecord todo = todos.get(i);
+        if (i > 0) {
+          statement.add();
+        }
+        statement.bind(0, todo.uuid())
+          .bind(1, todo.title())
+          .bind(2, todo.status().name())
+          .bind(3, todo.appUserId())
+          .bind(4, todo.createdAt());
+      }
+
+      return Flux.from(statement.execute())
+        .concatMap(result -> result.map((row, metadata) -> converter.read(TodoRecord.class, row, metadata)));
+    });
+  }
+
+  @Override
+  public Mono<TodoVersion> findListVersion(Long userId) {
+    return databaseClient.sql(LIST_VERSION_SQL)
+      .bind("userId", userId)
+      .map(row -> new TodoVersion(row.get("version", Long.class), row.get("updated_at", Instant.class)))
+      .one()
+      .defaultIfEmpty(new TodoVersion(0, null));
+  }
+
+  @Override
+  public Flux<TodoResponseDto> findFieldsByUserId(Long userId, Set<TodoField> fields) {
+    return databaseClient.sql("select " + selection(fields) + " from todo_list where app_user_id = :userId order by created_at, id")
+      .bind("userId", userId)
+      .map(row -> toDto(row, fields))
+      .all();
+  }
+
+  @Override
+  public Mono<TodoResponseDto> findFieldsByUuid(Long userId, UUID uuid, Set<TodoField> fields) {
+    return databaseClient.sql("select " + selection(fields) + " from todo_list where uuid = :uuid and app_user_id = :userId")
+      .bind("uuid", uuid)
+      .bind("userId", userId)
+      .map(row -> toDto(row, fields))
+      .one();
+  }
+
+  @Override
+  public Mono<TodoPageDto> findPage(Long userId, Status status, TodoCursor cursor, Sort.Direction direction, int limit, Set<TodoField> fields) {
+    String comparison = direction.isAscending() ? ">" : "<";
+    String order = direction.isAscending() ? "asc" : "desc";
+
+    StringBuilder sql = new StringBuilder("select id as cursor_id, created_at as cursor_created_at, ")
+      .append(selection(fields))
+      .append(" from todo_list where app_user_id = :userId");
+    if (status != null) {
+      sql.append(" and status = :status");
+    }
+    if (cursor != null) {
+      sql.append(" and (created_at ").append(comparison).append(" :createdAt or (created_at = :createdAt and id ").append(comparison).append(" :id))");
+    }
+    sql.append(" order by created_at ").append(order).append(", id ").append(order).append(" limit :limit");
+
+    DatabaseClient.GenericExecuteSpec query = databaseClient.sql(sql.toString())
+      .bind("userId", userId)
+      .bind("limit", limit + 1);
+    if (status != null) {
+      query = query.bind("status", status.name());
+    }
+    if (cursor != null) {
+      query = query.bind("createdAt", cursor.createdAt()).bind("id", cursor.id());
+    }
+
+    return query.map(row -> new PageRow(new TodoCursor(row.get("cursor_created_at", Instant.class), row.get("cursor_id", Long.class)), toDto(row, fields)))
+      .all()
+      .collectList()
+      .map(rows -> {
+        boolean hasNext = rows.size() > limit;
+        List<PageRow> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? page.get(page.size() - 1).cursor().encode() : null;
+        return new TodoPageDto(page.stream().map(PageRow::todo).toList(), nextCursor);
+      });
+  }
+
+  private static String selection(Set<TodoField> fields) {
+    return fields.stream().map(TodoField::getColumn).collect(Collectors.joining(", "));
+  }
+
+  private static TodoResponseDto toDto(Readable row, Set<TodoField> fields) {
+    return new TodoResponseDto(
+      fields.contains(TodoField.UUID) ? row.get(TodoField.UUID.getColumn(), UUID.class) : null,
+      fields.contains(TodoField.TITLE) ? row.get(TodoField.TITLE.getColumn(), String.class) : null,
+      fields.contains(TodoField.STATUS) ? Status.valueOf(row.get(TodoField.STATUS.getColumn(), String.class)) : null,
+      fields.contains(TodoField.CREATED_AT) ? row.get(TodoField.CREATED_AT.getColumn(), Instant.class) : null,
+      fields.contains(TodoField.UPDATED_AT) ? row.get(TodoField.UPDATED_AT.getColumn(), Instant.class) : null
+    );
+  }
+
+  private record PageRow(TodoCursor cursor, TodoResponseDto todo) {
+
+  }
+}
@@ -0,0 +1,188 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.exception.PreconditionFailedException;
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoCursor;
+import com.example.todo.todo.TodoField;
+import com.example.todo.todo.TodoPageDto;
+import com.example.todo.todo.TodoRequestDto;
+import com.example.todo.todo.TodoResponseDto;
+import com.example.todo.todo.TodoServcie;
+import com.example.todo.todo.TodoTransitionRequestDto;
+import com.example.todo.todo.TodoTransitionResponseDto;
+import com.example.todo.todo.TodoVersion;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link TodoServcie}. Every write is a single statement, so no transaction is opened.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@Slf4j
+public class ReactiveTodoService {
+  private final ReactiveTodoRepository todoRepository;
+
+  private final ReactiveAuthService authService;
+  private final UuidGenerator uuidGenerator;
+
+  public Flux<TodoResponseDto> getTodos(String fields) {
+    return authService.getCurrentUser().flatMapMany(user -> {
+      Set<TodoField> selected = TodoField.parse(fields);
+      log.info("Fetching todos for email=`{}`", user.getEmail());
+      return isAllFields(selected)
+        ? todoRepository.findByAppUserIdOrderByCreatedAtAscIdAsc(user.getId()).map(TodoRecord::toDto)
+        : todoRepository.findFieldsByUserId(user.getId(), selected);
+    });
+  }
+
+  public Mono<TodoPageDto> getTodos(String cursor, Integer limit, Status status, String sort, String fields) {
+    return authService.getCurrentUser().flatMap(user -> {
+      if (limit < 1) {
+        throw new TodoException("Invalid Page Size", "limit must be greater than 0");
+      }
+
+      Sort.Direction direction = Sort.Direction.fromOptionalString(sort)
+        .orElseThrow(() -> new TodoException("Invalid Sort", String.format("sort must be `asc` or `desc`, got `%s`", sort)));
+
+      TodoCursor after = cursor == null ? null : TodoCursor.decode(cursor);
+      Set<TodoField> selected = TodoField.parse(fields);
+
+      log.info("Fetching todos page for email=`{}`", user.getEmail());
+      return todoRepository.findPage(user.getId(), status, after, direction, Math.min(limit, TodoServcie.MAX_PAGE_SIZE), selected);
+    });
+  }
+
+  public Mono<TodoVersion> getTodosVersion() {
+    return authService.getCurrentUser().flatMap(user -> todoRepository.findListVersion(user.getId()));
+  }
+
+  public Mono<TodoVersion> getTodoVersion(String id) {
+    return authService.getCurrentUser().flatMap(user -> Mono.justOrEmpty(UuidGenerator.parse(id))
+      .flatMap(uuid -> todoRepository.findVersionByUuid(user.getId(), uuid))
+      .switchIfEmpty(Mono.error(() -> notFound(id))));
+  }
+
+  public Mono<TodoResponseDto> addTodo(TodoRequestDto request) {
+    return authService.getCurrentUser().flatMap(user -> {
+      if (request.title() == null || request.title().isBlank()) {
+        throw new TodoException("Invalid Todo", "title cannot be blank");
+      }
+
+      Instant now = Instant.now();
+      TodoRecord todo = new TodoRecord(null, uuidGenerator.randomUUID(), request.title(), Status.PENDING, user.getId(), now, now, null);
+      log.info("Added todo with id=`{}`", todo.uuid());
+      return todoRepository.insertAll(List.of(todo)).single().map(TodoRecord::toDto);
+    });
+  }
+
+  public Mono<TodoResponseDto> getTodo(String id, String fields) {
+    return authService.getCurrentUser().flatMap(user -> {
+      Set<TodoField> selected = TodoField.parse(fields);
+      return Mono.justOrEmpty(UuidGenerator.parse(id))
+        .flatMap(uuid -> isAllFields(selected)
+          ? todoRepository.findByAppUserIdAndUuid(user.getId(), uuid).map(TodoRecord::toDto)
+          : todoRepository.findFieldsByUuid(user.getId(), uuid, selected))
+        .switchIfEmpty(Mono.error(() -> notFound(id)))
+        .doOnNext(todo -> log.info("Fetch todo with id=`{}`", id));
+    });
+  }
+
+  /**
+   * Changes the status with one conditional update, limited to the current user's todos. When {@code expectedVersion}
+   * is set and the todo has moved on, nothing is written and a {@link PreconditionFailedException} is signalled.
+   */
+  public Mono<TodoResponseDto> update(String id, Status status, Long expectedVersion) {
+    return authService.getCurrentUser().flatMap(user -> parse(id)
+      .flatMap(uuid -> (expectedVersion == null
+          ? todoRepository.updateStatusByUuid(user.getId(), uuid, status.name(), Instant.now())
+          : todoRepository.updateStatusByUuidAndVersion(user.getId(), uuid, status.name(), expectedVersion, Instant.now()))
+        .switchIfEmpty(Mono.defer(() -> notUpdated(todoRepository.existsByAppUserIdAndUuid(user.getId(), uuid), id, expectedVersion)))))
+      .map(todo -> {
+        log.info("Change status for todo with id=`{}`", id);
+        return todo.toDto();
+      });
+  }
+
+  public Mono<TodoTransitionResponseDto> transition(TodoTransitionRequestDto request) {
+    return authService.getCurrentUser().flatMap(user -> {
+      if (request.from() == null || request.to() == null) {
+        throw new TodoException("Invalid Transition", "from and to status are required");
+      }
+
+      Mono<Integer> updated = request.createdBefore() == null
+        ? todoRepository.updateStatus(user.getId(), request.from().name(), request.to().name(), Instant.now())
+        : todoRepository.updateStatusCreatedBefore(user.getId(), request.from().name(), request.to().name(), request.createdBefore(), Instant.now());
+
+      return updated.map(count -> {
+        log.info("Changed status of {} todos from {} to {}", count, request.from(), request.to());
+        return new TodoTransitionResponseDto(count);
+      });
+    });
+  }
+
+  /**
+   * Unlike the servlet stack the title is also changed with one conditional update, so an
+   * unconditional update never conflicts and a stale {@code expectedVersion} is reported as 412.
+   */
+  public Mono<TodoResponseDto> update(String id, TodoRequestDto request, Long expectedVersion) {
+    return authService.getCurrentUser().flatMap(user -> parse(id)
+      .flatMap(uuid -> (expectedVersion == null
+          ? todoRepository.updateTitleByUuid(user.getId(), uuid, request.title(), Instant.now())
+          : todoRepository.updateTitleByUuidAndVersion(user.getId(), uuid, request.title(), expectedVersion, Instant.now()))
+        .switchIfEmpty(Mono.defer(() -> notUpdated(todoRepository.existsByAppUserIdAndUuid(user.getId(), uuid), id, expectedVersion)))))
+      .map(todo -> {
+        log.info("Updated title for todo with id=`{}`", id);
+        return todo.toDto();
+      });
+  }
+
+  public Mono<Void> delete(String id) {
+    return authService.getCurrentUser().flatMap(user -> parse(id)
+      .flatMap(uuid -> todoRepository.deleteByUuid(user.getId(), uuid))
+      .flatMap(deleted -> deleted == 0 ? Mono.error(notFound(id)) : Mono.<Void>empty()))
+      .doOnSuccess(ignored -> log.info("Deleted todo with id=`{}`", id));
+  }
+
+  private Mono<UUID> parse(String id) {
+    return Mono.justOrEmpty(UuidGenerator.parse(id)).switchIfEmpty(Mono.error(() -> notFound(id)));
+  }
+
+  private Mono<TodoRecord> notUpdated(Mono<Boolean> existence, String id, Long expectedVersion) {
+    if (expectedVersion == null) {
+      return Mono.error(notFound(id));
+    }
+
+    return existence.flatMap(exists -> {
+      if (!exists) {
+        return Mono.error(notFound(id));
+      }
+
+      log.error("Version mismatch while updating todo with id=`{}`", id);
+      return Mono.error(new PreconditionFailedException("Precondition Failed", String.format("Todo with uuid=`%s` was modified, fetch it again and retry", id)));
+    });
+  }
+
+  private TodoException notFound(String id) {
+    return new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id));
+  }
+
+  private boolean isAllFields(Set<TodoField> fields) {
+    return fields.size() == TodoField.values().length;
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoImportDto;
+import com.example.todo.todo.TodoImportResponseDto;
+import com.example.todo.todo.TodoResponseDto;
+import com.example.todo.todo.TodoTransferService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link TodoTransferService}. Export rows are written as the database
+ * delivers them and imports are inserted in batches, both under backpressure.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@AllArgsConstructor
+@Slf4j
+public class ReactiveTodoTransferService {
+  private final ReactiveTodoRepository todoRepository;
+
+  private final ReactiveAuthService authService;
+  private final UuidGenerator uuidGenerator;
+
+  private final ObjectMapper objectMapper;
+
+  public Flux<TodoResponseDto> exportTodos() {
+    return authService.getCurrentUser().flatMapMany(user -> todoRepository.findByAppUserIdOrderByCreatedAtAscIdAsc(user.getId())
+      .map(TodoRecord::toDto)
+      .doOnComplete(() -> log.info("Exported todos for email=`{}`", user.getEmail())));
+  }
+
+  @Transactional
+  public Mono<TodoImportResponseDto> importTodos(Flux<String> lines) {
+    ObjectReader reader = objectMapper.readerFor(TodoImportDto.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    return authService.getCurrentUser().flatMap(user -> lines
+      .index()
+      .filter(line -> !line.getT2().isBlank())
+      .map(line -> {
+        TodoImportDto request = parse(reader, line.getT2(), line.getT1() + 1);
+        Instant now = Instant.now();
+        return new TodoRecord(null, uuidGenerator.randomUUID(), request.title(), request.status() == null ? Status.PENDING : request.status(), user.getId(), now, now, null);
+      })
+      .buffer(TodoTransferService.IMPORT_BATCH_SIZE)
+      .concatMap(todoRepository::insertAll)
+      .count()
+      .map(count -> {
+        log.info("Imported {} todos for user id=`{}`", count, user.getId());
+        return new TodoImportResponseDto(count);
+      }));
+  }
+
+  private TodoImportDto parse(ObjectReader reader, String line, long lineNumber) {
+    try {
+      TodoImportDto request = reader.readValue(line);
+      if (request.title() == null || request.title().isBlank()) {
+        throw new TodoException("Invalid Import", String.format("Line %d has a blank title", lineNumber));
+      }
+      return request;
+    } catch (JsonProcessingException e) {
+      throw new TodoException("Invalid Import", String.format("Line %d is not a valid todo", lineNumber));
+    }
+  }
+}
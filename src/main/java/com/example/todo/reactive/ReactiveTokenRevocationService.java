@@ -0,0 +1,92 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.jwt.TokenRevocationList;
+import com.example.todo.jwt.TokenRevocationService;
+import com.example.todo.shared.UuidGenerator;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link TokenRevocationService}. The common answer is a shared constant,
+ * so requests with tokens that were never revoked neither allocate nor touch the database.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveTokenRevocationService {
+  private static final long SYNC_OVERLAP_SECONDS = 30;
+  private static final Mono<Boolean> NOT_REVOKED = Mono.just(false);
+  private static final Mono<Boolean> REVOKED = Mono.just(true);
+
+  private final ReactiveRevokedTokenRepository revokedTokenRepository;
+  private final TokenRevocationList revocationList;
+  private volatile Instant lastSync = Instant.EPOCH;
+
+  public ReactiveTokenRevocationService(
+    ReactiveRevokedTokenRepository revokedTokenRepository,
+    @Value("${jwt.expiration-seconds}") long expirationSeconds,
+    @Value("${jwt.revocation-capacity:100000}") int revocationCapacity
+  ) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.revocationList = new TokenRevocationList(revocationCapacity, expirationSeconds * 1000);
+  }
+
+  public Mono<Boolean> isRevoked(Claims claims) {
+    String jti = claims.getId();
+    if (jti == null || !revocationList.mightBeRevoked(jti)) {
+      return NOT_REVOKED;
+    }
+
+    if (revocationList.isRevoked(jti)) {
+      return REVOKED;
+    }
+
+    return UuidGenerator.parse(jti).map(revokedTokenRepository::existsById).orElse(NOT_REVOKED);
+  }
+
+  public Mono<Void> revoke(Claims claims) {
+    Optional<UUID> jti = UuidGenerator.parse(claims.getId());
+    if (jti.isEmpty()) {
+      log.warn("Token of user=`{}` has no jti and cannot be revoked", claims.getSubject());
+      return Mono.empty();
+    }
+
+    Instant expiresAt = claims.getExpiration().toInstant();
+    return revokedTokenRepository.insert(jti.get(), expiresAt, Instant.now())
+      .doOnNext(inserted -> {
+        revocationList.add(claims.getId(), expiresAt.toEpochMilli());
+        log.info("Revoked token jti=`{}` of user=`{}`", claims.getId(), claims.getSubject());
+      })
+      .then();
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval:PT5S}")
+  public Mono<Void> sync() {
+    Instant now = Instant.now();
+    return revokedTokenRepository.findRevokedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS), now)
+      .doOnNext(revokedToken -> revocationList.add(revokedToken.jti().toString(), revokedToken.expiresAt().toEpochMilli()))
+      .then(Mono.fromRunnable(() -> {
+        revocationList.evictExpired(now.toEpochMilli());
+        lastSync = now;
+      }));
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.purge-interval:PT1H}", initialDelayString = "${jwt.purge-interval:PT1H}")
+  public Mono<Void> purgeExpired() {
+    return revokedTokenRepository.deleteExpired(Instant.now())
+      .filter(purged -> purged > 0)
+      .doOnNext(purged -> log.info("Purged {} expired token revocations", purged))
+      .then();
+  }
+}
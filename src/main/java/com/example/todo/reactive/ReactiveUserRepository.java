@@ -0,0 +1,31 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long> {
+  Mono<UserRecord> findByEmail(String email);
+
+  /**
+   * Takes the id straight from the sequence Hibernate allocates its pooled blocks of 50 from. A value drawn
+   * here is the upper bound of a block no Hibernate instance receives, so both stacks can write at once.
+   */
+  @Query("""
+    insert into app_user (id, uuid, email, password, created_at, updated_at)
+    values (nextval('user_generator_sequence'), :uuid, :email, :password, :createdAt, :createdAt)
+    returning id, uuid, email, password, created_at, updated_at
+    """)
+  Mono<UserRecord> insert(UUID uuid, String email, String password, Instant createdAt);
+
+  @Modifying
+  @Query("update app_user set password = :password, updated_at = :updatedAt where email = :email")
+  Mono<Integer> updatePassword(String email, String password, Instant updatedAt);
+}
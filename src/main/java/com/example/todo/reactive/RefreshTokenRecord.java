@@ -0,0 +1,34 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.example.todo.user.User;
+
+/**
+ * Row of {@code refresh_token} as read by the reactive stack. The owner columns are only
+ * filled by {@link ReactiveRefreshTokenRepository#findByTokenHash}, which joins them in.
+ */
+@Table("refresh_token")
+public record RefreshTokenRecord(
+  @Id Long id,
+  UUID familyId,
+  Long appUserId,
+  Instant expiresAt,
+  Instant usedAt,
+  Instant revokedAt,
+  @ReadOnlyProperty UUID userUuid,
+  @ReadOnlyProperty String userEmail
+) {
+  public User toUser() {
+    return User.builder()
+      .id(appUserId)
+      .uuid(userUuid)
+      .email(userEmail)
+      .build();
+  }
+}
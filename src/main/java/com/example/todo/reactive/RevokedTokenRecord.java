@@ -0,0 +1,15 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of {@code revoked_token} as read by the reactive stack.
+ */
+@Table("revoked_token")
+public record RevokedTokenRecord(@Id UUID jti, Instant expiresAt, Instant revokedAt) {
+
+}
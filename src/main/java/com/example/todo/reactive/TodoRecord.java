@@ -0,0 +1,20 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoResponseDto;
+
+/**
+ * Row of {@code todo_list} as read by the reactive stack.
+ */
+@Table("todo_list")
+public record TodoRecord(@Id Long id, UUID uuid, String title, Status status, Long appUserId, Instant createdAt, Instant updatedAt, Long version) {
+  public TodoResponseDto toDto() {
+    return new TodoResponseDto(uuid, title, status, createdAt, updatedAt);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.example.todo.user.User;
+
+/**
+ * Row of {@code app_user} as read by the reactive stack.
+ */
+@Table("app_user")
+public record UserRecord(@Id Long id, UUID uuid, String email, String password, Instant createdAt, Instant updatedAt) {
+  public User toUser() {
+    return User.builder()
+      .id(id)
+      .uuid(uuid)
+      .email(email)
+      .password(password)
+      .build();
+  }
+}
@@ -1,12 +1,81 @@
 package com.example.todo.shared;
 
+import java.security.SecureRandom;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Generates the public ids of users and todos, either as random version 4 UUIDs or as
+ * time-ordered version 7 UUIDs (RFC 9562) selected by {@code uuid.version}.
+ *
+ * Version 7 ids carry the unix millisecond timestamp in the top 48 bits followed by a
+ * 12 bit sequence, so ids created later sort after earlier ones and inserts land at the
+ * right edge of the uuid index. The remaining 62 bits come from a per-thread
+ * {@link SecureRandom}, so ids handed out in the same millisecond cannot be predicted from
+ * one another while generation stays free of contention on a shared generator.
+ */
 @Component
 public class UuidGenerator {
-  public String randomUUID() {
-    return UUID.randomUUID().toString();
+  private static final int SEQUENCE_BITS = 12;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final long VERSION_7 = 7L << SEQUENCE_BITS;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+  private final int version;
+
+  /** Last issued {@code millis << 12 | sequence}. */
+  private final AtomicLong lastTimestamp = new AtomicLong();
+
+  public UuidGenerator(@Value("${uuid.version:7}") int version) {
+    if (version != 4 && version != 7) {
+      throw new IllegalArgumentException(String.format("uuid.version must be 4 or 7, got %d", version));
+    }
+    this.version = version;
+  }
+
+  public UUID randomUUID() {
+    return version == 7 ? timeOrderedUUID() : UUID.randomUUID();
+  }
+
+  /**
+   * Parses a uuid taken from a request, returning empty for malformed input so callers
+   * can report it the same way as an unknown id.
+   */
+  public static Optional<UUID> parse(String value) {
+    try {
+      return value == null ? Optional.empty() : Optional.of(UUID.fromString(value));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  UUID timeOrderedUUID() {
+    long timestamp = nextTimestamp();
+    long msb = (timestamp >>> SEQUENCE_BITS) << 16 | VERSION_7 | (timestamp & SEQUENCE_MASK);
+    long lsb = RANDOM.get().nextLong() & VARIANT_MASK | VARIANT;
+    return new UUID(msb, lsb);
+  }
+
+  /**
+   * Returns a value strictly greater than any previously issued one. Within the same
+   * millisecond the sequence is incremented; once it overflows the carry moves into the
+   * millisecond field, borrowing from the next millisecond instead of blocking.
+   */
+  private long nextTimestamp() {
+    while (true) {
+      long last = lastTimestamp.get();
+      long now = System.currentTimeMillis() << SEQUENCE_BITS;
+      long next = now > last ? now : last + 1;
+
+      if (lastTimestamp.compareAndSet(last, next)) {
+        return next;
+      }
+    }
   }
 }
@@ -1,14 +1,16 @@
 package com.example.todo.todo;
 
+import java.util.UUID;
+
 import com.example.todo.shared.AuditEntity;
 import com.example.todo.user.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import io.micrometer.common.lang.NonNull;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,7 +18,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -39,8 +43,8 @@ public class Todo extends AuditEntity {
   @SequenceGenerator(name = "todo_generator", sequenceName = "todo_generator_sequence", initialValue = 101)
   private Long id;
 
-  @NotBlank(message = "uuid cannot be blank")
-  private String uuid;
+  @NotNull(message = "uuid cannot be blank")
+  private UUID uuid;
 
   @NotBlank(message = "title cannot be blank")
   private String title;
@@ -50,7 +54,13 @@ public class Todo extends AuditEntity {
   private Status status;
 
   @JsonIgnore
+  @Version
+  private Long version;
+
+  // No cascade, a todo never creates, merges or deletes its user.
+  @JsonIgnore
+  @ToString.Exclude
   @JoinColumn(name = "app_user_id")
-  @ManyToOne(cascade = CascadeType.ALL)
+  @ManyToOne(fetch = FetchType.LAZY)
   private User user;
 }
@@ -0,0 +1,5 @@
+package com.example.todo.todo;
+
+public record TodoBatchItemDto(String uuid, TodoBatchResult result, TodoResponseDto todo) {
+  
+}
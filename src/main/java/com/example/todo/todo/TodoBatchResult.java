@@ -0,0 +1,9 @@
+package com.example.todo.todo;
+
+public enum TodoBatchResult {
+  CREATED,
+  UPDATED,
+  DELETED,
+  FOUND,
+  NOT_FOUND
+}
@@ -0,0 +1,146 @@
+package com.example.todo.todo;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todo.auth.AuthService;
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+import com.example.todo.user.UserRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multi-item variants of the todo operations. Each call runs in a single transaction and
+ * touches the database with one IN query plus batched writes, instead of one round trip per todo.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@AllArgsConstructor
+@Slf4j
+public class TodoBatchService {
+  public static final int MAX_BATCH_SIZE = 500;
+
+  private final TodoRepository todoRepository;
+  private final UserRepository userRepository;
+
+  private final AuthService authService;
+  private final UuidGenerator uuidGenerator;
+
+  private final TodoDtoMapper todoDtoMapper;
+
+  @Transactional
+  public TodoBatchResponseDto addTodos(List<TodoRequestDto> requests) {
+    checkBatchSize(requests);
+    requests.forEach(request -> {
+      if (request.title() == null || request.title().isBlank()) {
+        throw new TodoException("Invalid Batch", "title cannot be blank");
+      }
+    });
+
+    User user = userRepository.getReferenceById(getCurrentUserId());
+    List<Todo> todos = requests.stream()
+      .map(request -> Todo.builder()
+        .uuid(uuidGenerator.randomUUID())
+        .title(request.title())
+        .status(Status.PENDING)
+        .user(user)
+        .build())
+      .toList();
+
+    log.info("Adding {} todos in batch", todos.size());
+    return new TodoBatchResponseDto(todoRepository.saveAll(todos).stream()
+      .map(todo -> new TodoBatchItemDto(todo.getUuid().toString(), TodoBatchResult.CREATED, todoDtoMapper.todoToDto(todo)))
+      .toList());
+  }
+
+  @Transactional(readOnly = true)
+  public TodoBatchResponseDto getTodos(List<String> ids) {
+    Collection<String> uuids = distinct(ids);
+    Map<String, Todo> todos = findTodos(uuids);
+
+    log.info("Fetching {} todos in batch", uuids.size());
+    return new TodoBatchResponseDto(uuids.stream()
+      .map(uuid -> todos.containsKey(uuid)
+        ? new TodoBatchItemDto(uuid, TodoBatchResult.FOUND, todoDtoMapper.todoToDto(todos.get(uuid)))
+        : notFound(uuid))
+      .toList());
+  }
+
+  @Transactional
+  public TodoBatchResponseDto update(List<String> ids, Status status) {
+    Collection<String> uuids = distinct(ids);
+    Map<String, Todo> todos = findTodos(uuids);
+
+    todos.values().forEach(todo -> todo.setStatus(status));
+    todoRepository.flush();
+
+    log.info("Changed status of {} todos in batch", todos.size());
+    return new TodoBatchResponseDto(uuids.stream()
+      .map(uuid -> todos.containsKey(uuid)
+        ? new TodoBatchItemDto(uuid, TodoBatchResult.UPDATED, todoDtoMapper.todoToDto(todos.get(uuid)))
+        : notFound(uuid))
+      .toList());
+  }
+
+  @Transactional
+  public TodoBatchResponseDto delete(List<String> ids) {
+    Collection<String> uuids = distinct(ids);
+    Map<String, Todo> todos = findTodos(uuids);
+
+    if (!todos.isEmpty()) {
+      todoRepository.deleteAllInBatch(todos.values());
+    }
+
+    log.info("Deleted {} todos in batch", todos.size());
+    return new TodoBatchResponseDto(uuids.stream()
+      .map(uuid -> todos.containsKey(uuid) ? new TodoBatchItemDto(uuid, TodoBatchResult.DELETED, null) : notFound(uuid))
+      .toList());
+  }
+
+  private Map<String, Todo> findTodos(Collection<String> ids) {
+    List<UUID> uuids = ids.stream().flatMap(id -> UuidGenerator.parse(id).stream()).toList();
+    if (uuids.isEmpty()) {
+      return Map.of();
+    }
+
+    return todoRepository.findByUserIdAndUuidIn(getCurrentUserId(), uuids).stream()
+      .collect(Collectors.toMap(todo -> todo.getUuid().toString(), Function.identity()));
+  }
+
+  private Long getCurrentUserId() {
+    return authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+  }
+
+  private Collection<String> distinct(List<String> ids) {
+    checkBatchSize(ids);
+    return ids.stream()
+      .map(id -> UuidGenerator.parse(id).map(UUID::toString).orElse(id))
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private void checkBatchSize(List<?> items) {
+    if (items == null || items.isEmpty()) {
+      throw new TodoException("Invalid Batch", "Batch cannot be empty");
+    }
+
+    if (items.size() > MAX_BATCH_SIZE) {
+      throw new TodoException("Invalid Batch", String.format("Batch cannot contain more than %d items", MAX_BATCH_SIZE));
+    }
+  }
+
+  private TodoBatchItemDto notFound(String uuid) {
+    return new TodoBatchItemDto(uuid, TodoBatchResult.NOT_FOUND, null);
+  }
+}
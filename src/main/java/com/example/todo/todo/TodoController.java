@@ -1,34 +1,126 @@
 package com.example.todo.todo;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.todo.user.User;
+
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 
 @RestController
 @RequestMapping("/todo-api/v1/todo")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 public class TodoController {
   private final TodoServcie todoServcie;
+  private final TodoTransferService todoTransferService;
+  private final TodoBatchService todoBatchService;
 
   @GetMapping()
-  public ResponseEntity<List<TodoResponseDto>> getTodos() {
-    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.getTodos());
+  public ResponseEntity<MappingJacksonValue> getTodos(
+    @RequestParam(name = "cursor", required = false) String cursor,
+    @RequestParam(name = "limit", defaultValue = "" + TodoServcie.DEFAULT_PAGE_SIZE) Integer limit,
+    @RequestParam(name = "status", required = false) Status status,
+    @RequestParam(name = "sort", defaultValue = "asc") String sort,
+    @RequestParam(name = "fields", required = false) String fields,
+    @AuthenticationPrincipal User user,
+    WebRequest webRequest
+  ) {
+    TodoVersion version = todoServcie.getTodosVersion();
+    Set<TodoField> selected = TodoField.parse(fields);
+    String eTag = TodoETags.ofList(user.getId(), version.version(), cursor, limit, String.valueOf(status), sort, selected.toString());
+    if (isNotModified(webRequest, eTag, version.updatedAt())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    TodoPageDto page = todoServcie.getTodos(cursor, limit, status, sort, fields);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(page, selected));
+  }
+
+  @GetMapping(params = "unpaged=true")
+  public ResponseEntity<MappingJacksonValue> getAllTodos(
+    @RequestParam(name = "fields", required = false) String fields,
+    @AuthenticationPrincipal User user,
+    WebRequest webRequest
+  ) {
+    TodoVersion version = todoServcie.getTodosVersion();
+    Set<TodoField> selected = TodoField.parse(fields);
+    String eTag = TodoETags.ofList(user.getId(), version.version(), "unpaged", selected.toString());
+    if (isNotModified(webRequest, eTag, version.updatedAt())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    List<TodoResponseDto> todos = todoServcie.getTodos(fields);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(todos, selected));
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportTodos(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+    todoTransferService.exportTodos(response.getOutputStream());
+  }
+
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<TodoImportResponseDto> importTodos(InputStream body) throws IOException {
+    TodoImportResponseDto response = todoTransferService.importTodos(body);
+    return ResponseEntity.status(response.failedLine() == null ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+  }
+
+  @GetMapping("/batch")
+  public ResponseEntity<TodoBatchResponseDto> getTodos(@RequestParam(name = "ids") List<String> ids) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoBatchService.getTodos(ids));
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<TodoBatchResponseDto> addTodos(@RequestBody List<TodoRequestDto> request) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(todoBatchService.addTodos(request));
+  }
+
+  @PutMapping("/batch/status/{status}")
+  public ResponseEntity<TodoBatchResponseDto> changeStatus(@PathVariable(name = "status") Status status, @RequestBody List<String> ids) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoBatchService.update(ids, status));
+  }
+
+  @DeleteMapping("/batch")
+  public ResponseEntity<TodoBatchResponseDto> delete(@RequestParam(name = "ids") List<String> ids) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoBatchService.delete(ids));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<TodoResponseDto> getTodo(@PathVariable(name = "id") String id) {
-    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.getTodo(id));
+  public ResponseEntity<MappingJacksonValue> getTodo(@PathVariable(name = "id") String id, @RequestParam(name = "fields", required = false) String fields, WebRequest webRequest) {
+    TodoVersion version = todoServcie.getTodoVersion(id);
+    Set<TodoField> selected = TodoField.parse(fields);
+    String eTag = TodoETags.ofTodo(version.version(), selected.toString());
+    if (isNotModified(webRequest, eTag, version.updatedAt())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    TodoResponseDto todo = todoServcie.getTodo(id, fields);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(TodoETags.REVALIDATE).body(TodoFieldFilter.select(todo, selected));
   }
 
   @PostMapping()
@@ -36,14 +128,27 @@ public class TodoController {
     return ResponseEntity.status(HttpStatus.CREATED).body(todoServcie.addTodo(request));
   }
 
+  @PutMapping("/status")
+  public ResponseEntity<TodoTransitionResponseDto> changeStatus(@RequestBody TodoTransitionRequestDto request) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.transition(request));
+  }
+
   @PutMapping("/{id}/status/{status}")
-  public ResponseEntity<TodoResponseDto> changeStatus(@PathVariable(name = "id") String id, @PathVariable(name = "status") Status status) {
-    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.update(id, status));
+  public ResponseEntity<TodoResponseDto> changeStatus(
+    @PathVariable(name = "id") String id,
+    @PathVariable(name = "status") Status status,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.update(id, status, TodoETags.expectedVersion(id, ifMatch)));
   }
 
   @PutMapping("/{id}")
-  public ResponseEntity<TodoResponseDto> update(@PathVariable(name = "id") String id, @RequestBody TodoRequestDto request) {
-    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.update(id, request));
+  public ResponseEntity<TodoResponseDto> update(
+    @PathVariable(name = "id") String id,
+    @RequestBody TodoRequestDto request,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return ResponseEntity.status(HttpStatus.OK).body(todoServcie.update(id, request, TodoETags.expectedVersion(id, ifMatch)));
   }
 
   @DeleteMapping("/{id}")
@@ -51,4 +156,11 @@ public class TodoController {
     todoServcie.delete(id);
     return ResponseEntity.status(HttpStatus.OK).body(null);
   }
+
+  /** Sets ETag and Last-Modified on the response, and the 304 status when the client copy is current. */
+  private static boolean isNotModified(WebRequest webRequest, String eTag, Instant lastModified) {
+    return lastModified == null
+      ? webRequest.checkNotModified(eTag)
+      : webRequest.checkNotModified(eTag, lastModified.toEpochMilli());
+  }
 }
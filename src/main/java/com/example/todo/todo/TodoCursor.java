@@ -0,0 +1,26 @@
+package com.example.todo.todo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.example.todo.exception.TodoException;
+
+/**
+ * Opaque keyset cursor over {@code (created_at, id)}, handed to clients as a url-safe string.
+ */
+public record TodoCursor(Instant createdAt, Long id) {
+  public static TodoCursor decode(String cursor) {
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+      return new TodoCursor(Instant.parse(parts[0]), Long.valueOf(parts[1]));
+    } catch (RuntimeException e) {
+      throw new TodoException("Invalid Cursor", String.format("Cursor `%s` is not valid", cursor));
+    }
+  }
+
+  public String encode() {
+    String value = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
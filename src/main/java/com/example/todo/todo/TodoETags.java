@@ -0,0 +1,61 @@
+package com.example.todo.todo;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+
+import com.example.todo.exception.PreconditionFailedException;
+
+/**
+ * ETag handling shared by the servlet and the reactive todo controllers, so both stacks
+ * issue and accept the same tags.
+ */
+public final class TodoETags {
+  // Overrides the no-store default of Spring Security, so clients keep the body and revalidate it.
+  public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private static final Pattern TODO_TAG = Pattern.compile("\"t([0-9a-f]{1,16})-[0-9a-f]{8}\"");
+
+  private TodoETags() {
+  }
+
+  /**
+   * Strong ETag of a user's todo collection from the owner, the list version and every parameter that shapes the
+   * representation. List versions of different users run in step, the owner keeps their tags apart in a shared cache.
+   * Only String and numeric parts are hashed, so the tag is stable across instances and restarts.
+   */
+  public static String ofList(long userId, long version, Object... representation) {
+    return String.format("\"%x-%x-%08x\"", userId, version, Arrays.hashCode(representation));
+  }
+
+  /**
+   * Strong ETag of a single todo. The {@code t} prefix is not a hex digit, so a collection tag
+   * can never be read back as a todo version.
+   */
+  public static String ofTodo(long version, Object... representation) {
+    return String.format("\"t%x-%08x\"", version, Arrays.hashCode(representation));
+  }
+
+  /**
+   * Reads the todo version out of an If-Match ETag issued by {@link #ofTodo}. A missing header or
+   * {@code *} means unconditional, only the first tag of a list is used, and weak or foreign tags never match.
+   */
+  public static Long expectedVersion(String id, String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+
+    Matcher eTag = TODO_TAG.matcher(ifMatch.split(",")[0].trim());
+    if (!eTag.matches()) {
+      throw new PreconditionFailedException("Precondition Failed", String.format("If-Match `%s` is not an ETag of todo with uuid=`%s`", ifMatch, id));
+    }
+
+    try {
+      return Long.parseLong(eTag.group(1), 16);
+    } catch (NumberFormatException e) {
+      throw new PreconditionFailedException("Precondition Failed", String.format("If-Match `%s` is not an ETag of todo with uuid=`%s`", ifMatch, id));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.todo.todo;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.example.todo.exception.TodoException;
+
+/**
+ * Fields of {@link TodoResponseDto} that can be requested with the {@code fields=} parameter.
+ * The property and column names double as JPQL paths and SQL columns, so only these values ever reach a query.
+ */
+public enum TodoField {
+  UUID("uuid", "uuid"),
+  TITLE("title", "title"),
+  STATUS("status", "status"),
+  CREATED_AT("createdAt", "created_at"),
+  UPDATED_AT("updatedAt", "updated_at");
+
+  private final String property;
+  private final String column;
+
+  TodoField(String property, String column) {
+    this.property = property;
+    this.column = column;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  /**
+   * Parses a comma separated field list, returning every field when none is given.
+   */
+  public static Set<TodoField> parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return EnumSet.allOf(TodoField.class);
+    }
+
+    Set<TodoField> result = EnumSet.noneOf(TodoField.class);
+    for (String field : fields.split(",")) {
+      result.add(Arrays.stream(values())
+        .filter(value -> value.property.equals(field.trim()))
+        .findFirst()
+        .orElseThrow(() -> new TodoException("Invalid Fields", String.format("Unknown field `%s`, expected any of %s", field.trim(),
+          Arrays.stream(values()).map(TodoField::getProperty).collect(Collectors.joining(", "))))));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.todo;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Sparse fieldsets on the wire. A response with {@code fields=} only carries the requested properties of each
+ * {@link TodoResponseDto}, a requested property that is null is still sent. Without {@code fields=} every
+ * property is written, null or not.
+ */
+public final class TodoFieldFilter {
+  public static final String ID = "todoFields";
+
+  /** Attached to {@link TodoResponseDto} in the application ObjectMapper only, see JacksonConfig. */
+  @JsonFilter(ID)
+  public interface MixIn {}
+
+  private TodoFieldFilter() {}
+
+  /** Lets the ObjectMapper write every property when no other filter is given. */
+  public static FilterProvider allFields() {
+    return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+  }
+
+  /** Wraps a response body so that the todos in it are written with only the selected fields. */
+  public static MappingJacksonValue select(Object body, Set<TodoField> fields) {
+    MappingJacksonValue value = new MappingJacksonValue(body);
+    if (fields.size() < TodoField.values().length) {
+      Set<String> properties = fields.stream().map(TodoField::getProperty).collect(Collectors.toSet());
+      value.setFilters(new SimpleFilterProvider().addFilter(ID, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+    }
+    return value;
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.todo.todo;
+
+public record TodoImportDto(String title, Status status) {
+  
+}
@@ -0,0 +1,11 @@
+package com.example.todo.todo;
+
+/**
+ * {@code failedLine} and {@code error} are only set when an import stopped at a bad line,
+ * every line before it was imported and none after it.
+ */
+public record TodoImportResponseDto(Long imported, Long failedLine, String error) {
+  public TodoImportResponseDto(Long imported) {
+    this(imported, null, null);
+  }
+}
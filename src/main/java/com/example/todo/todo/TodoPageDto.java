@@ -0,0 +1,7 @@
+package com.example.todo.todo;
+
+import java.util.List;
+
+public record TodoPageDto(List<TodoResponseDto> todos, String nextCursor) {
+  
+}
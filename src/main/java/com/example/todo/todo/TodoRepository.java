@@ -1,15 +1,50 @@
 package com.example.todo.todo;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo.user.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
   List<Todo> findByUser(User user);
-  Optional<Todo> findByUuid(String uuid);
+  Optional<Todo> findByUuid(UUID uuid);
+  Optional<Todo> findByUserIdAndUuid(Long userId, UUID uuid);
+  List<Todo> findByUserIdAndUuidIn(Long userId, Collection<UUID> uuids);
+
+  @Query("select new com.example.todo.todo.TodoResponseDto(t.uuid, t.title, t.status, t.createdAt, t.updatedAt) from Todo t where t.user.id = :userId order by t.createdAt, t.id")
+  List<TodoResponseDto> findDtoByUserId(Long userId);
+
+  @Query("select new com.example.todo.todo.TodoResponseDto(t.uuid, t.title, t.status, t.createdAt, t.updatedAt) from Todo t where t.uuid = :uuid and t.user.id = :userId")
+  Optional<TodoResponseDto> findDtoByUuid(Long userId, UUID uuid);
+
+  @Query("select new com.example.todo.todo.TodoVersion(t.version, coalesce(t.updatedAt, t.createdAt)) from Todo t where t.uuid = :uuid and t.user.id = :userId")
+  Optional<TodoVersion> findVersionByUuid(Long userId, UUID uuid);
+
+  boolean existsByUserIdAndUuid(Long userId, UUID uuid);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TodoTransferService.EXPORT_FETCH_SIZE))
+  @Query("select new com.example.todo.todo.TodoResponseDto(t.uuid, t.title, t.status, t.createdAt, t.updatedAt) from Todo t where t.user.id = :userId order by t.createdAt, t.id")
+  Stream<TodoResponseDto> streamByUserId(Long userId);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Todo t set t.status = :to, t.updatedAt = :updatedAt, t.version = t.version + 1 where t.user.id = :userId and t.status = :from")
+  int updateStatus(Long userId, Status from, Status to, Instant updatedAt);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Todo t set t.status = :to, t.updatedAt = :updatedAt, t.version = t.version + 1 where t.user.id = :userId and t.status = :from and t.createdAt < :createdBefore")
+  int updateStatusCreatedBefore(Long userId, Status from, Status to, Instant createdBefore, Instant updatedAt);
 }
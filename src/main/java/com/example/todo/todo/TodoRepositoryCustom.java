@@ -0,0 +1,36 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+
+public interface TodoRepositoryCustom {
+  /**
+   * Changes the status of one of the user's todos in a single {@code UPDATE ... RETURNING} round trip and bumps its version.
+   * Bypasses the persistence context, so {@code updatedAt} is set from the given instant.
+   * When {@code expectedVersion} is set the row is only updated if it still has that version.
+   */
+  Optional<TodoResponseDto> updateStatusByUuid(Long userId, UUID uuid, Status status, Long expectedVersion, Instant updatedAt);
+
+  /**
+   * Reads the user's todo list version, which the database bumps on every insert, update or delete of their todos.
+   */
+  TodoVersion findListVersion(Long userId);
+
+  /**
+   * Selects only the requested fields of a user's todos; fields that were not requested are null.
+   */
+  List<TodoResponseDto> findFieldsByUserId(Long userId, Set<TodoField> fields);
+
+  Optional<TodoResponseDto> findFieldsByUuid(Long userId, UUID uuid, Set<TodoField> fields);
+
+  /**
+   * Reads one keyset page ordered by {@code (createdAt, id)} in the given direction, starting
+   * after {@code cursor} when present. The next cursor is set only if more rows follow.
+   */
+  TodoPageDto findPage(Long userId, Status status, TodoCursor cursor, Sort.Direction direction, int limit, Set<TodoField> fields);
+}
@@ -0,0 +1,152 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+  private static final String UPDATE_STATUS_SQL = """
+    update todo_list set status = :status, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId
+    returning uuid, title, status, created_at, updated_at
+    """;
+
+  private static final String UPDATE_STATUS_IF_VERSION_SQL = """
+    update todo_list set status = :status, updated_at = :updatedAt, version = version + 1
+    where uuid = :uuid and app_user_id = :userId and version = :version
+    returning uuid, title, status, created_at, updated_at
+    """;
+
+  private static final String LIST_VERSION_SQL = "select version, updated_at from todo_list_version where app_user_id = :userId";
+
+  private static final RowMapper<TodoResponseDto> TODO_ROW_MAPPER = (rs, rowNum) -> new TodoResponseDto(
+    rs.getObject("uuid", UUID.class),
+    rs.getString("title"),
+    Status.valueOf(rs.getString("status")),
+    toInstant(rs.getObject("created_at", OffsetDateTime.class)),
+    toInstant(rs.getObject("updated_at", OffsetDateTime.class))
+  );
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  @Override
+  public Optional<TodoResponseDto> updateStatusByUuid(Long userId, UUID uuid, Status status, Long expectedVersion, Instant updatedAt) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+      .addValue("userId", userId)
+      .addValue("uuid", uuid)
+      .addValue("status", status.name())
+      .addValue("updatedAt", updatedAt.atOffset(ZoneOffset.UTC))
+      .addValue("version", expectedVersion);
+
+    String sql = expectedVersion == null ? UPDATE_STATUS_SQL : UPDATE_STATUS_IF_VERSION_SQL;
+    return jdbcTemplate.query(sql, params, TODO_ROW_MAPPER).stream().findFirst();
+  }
+
+  @Override
+  public TodoVersion findListVersion(Long userId) {
+    return jdbcTemplate.query(LIST_VERSION_SQL, Map.of("userId", userId), (rs, rowNum) -> new TodoVersion(
+      rs.getLong("version"),
+      toInstant(rs.getObject("updated_at", OffsetDateTime.class))
+    )).stream().findFirst().orElse(new TodoVersion(0, null));
+  }
+
+  @Override
+  public List<TodoResponseDto> findFieldsByUserId(Long userId, Set<TodoField> fields) {
+    String jpql = "select " + selection(fields) + " from Todo t where t.user.id = :userId order by t.createdAt, t.id";
+
+    return entityManager.createQuery(jpql, Tuple.class)
+      .setParameter("userId", userId)
+      .getResultStream()
+      .map(tuple -> toDto(tuple, fields))
+      .toList();
+  }
+
+  @Override
+  public Optional<TodoResponseDto> findFieldsByUuid(Long userId, UUID uuid, Set<TodoField> fields) {
+    String jpql = "select " + selection(fields) + " from Todo t where t.uuid = :uuid and t.user.id = :userId";
+
+    return entityManager.createQuery(jpql, Tuple.class)
+      .setParameter("uuid", uuid)
+      .setParameter("userId", userId)
+      .getResultStream()
+      .findFirst()
+      .map(tuple -> toDto(tuple, fields));
+  }
+
+  @Override
+  public TodoPageDto findPage(Long userId, Status status, TodoCursor cursor, Sort.Direction direction, int limit, Set<TodoField> fields) {
+    String comparison = direction.isAscending() ? ">" : "<";
+    String order = direction.isAscending() ? "asc" : "desc";
+
+    StringBuilder jpql = new StringBuilder("select t.id as id, t.createdAt as cursorCreatedAt, ")
+      .append(selection(fields))
+      .append(" from Todo t where t.user.id = :userId");
+    if (status != null) {
+      jpql.append(" and t.status = :status");
+    }
+    if (cursor != null) {
+      jpql.append(" and (t.createdAt ").append(comparison).append(" :createdAt or (t.createdAt = :createdAt and t.id ").append(comparison).append(" :id))");
+    }
+    jpql.append(" order by t.createdAt ").append(order).append(", t.id ").append(order);
+
+    TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+      .setParameter("userId", userId)
+      .setMaxResults(limit + 1);
+    if (status != null) {
+      query.setParameter("status", status);
+    }
+    if (cursor != null) {
+      query.setParameter("createdAt", cursor.createdAt()).setParameter("id", cursor.id());
+    }
+
+    List<Tuple> rows = query.getResultList();
+    boolean hasNext = rows.size() > limit;
+    List<Tuple> page = hasNext ? rows.subList(0, limit) : rows;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Tuple last = page.get(page.size() - 1);
+      nextCursor = new TodoCursor(last.get("cursorCreatedAt", Instant.class), last.get("id", Long.class)).encode();
+    }
+
+    return new TodoPageDto(page.stream().map(tuple -> toDto(tuple, fields)).toList(), nextCursor);
+  }
+
+  private static String selection(Set<TodoField> fields) {
+    return fields.stream()
+      .map(field -> "t." + field.getProperty() + " as " + field.getProperty())
+      .collect(Collectors.joining(", "));
+  }
+
+  private static TodoResponseDto toDto(Tuple tuple, Set<TodoField> fields) {
+    return new TodoResponseDto(
+      fields.contains(TodoField.UUID) ? tuple.get(TodoField.UUID.getProperty(), UUID.class) : null,
+      fields.contains(TodoField.TITLE) ? tuple.get(TodoField.TITLE.getProperty(), String.class) : null,
+      fields.contains(TodoField.STATUS) ? tuple.get(TodoField.STATUS.getProperty(), Status.class) : null,
+      fields.contains(TodoField.CREATED_AT) ? tuple.get(TodoField.CREATED_AT.getProperty(), Instant.class) : null,
+      fields.contains(TodoField.UPDATED_AT) ? tuple.get(TodoField.UPDATED_AT.getProperty(), Instant.class) : null
+    );
+  }
+
+  private static Instant toInstant(OffsetDateTime value) {
+    return value == null ? null : value.toInstant();
+  }
+}
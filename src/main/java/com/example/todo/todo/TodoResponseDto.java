@@ -1,7 +1,8 @@
 package com.example.todo.todo;
 
 import java.time.Instant;
+import java.util.UUID;
 
-public record TodoResponseDto(String uuid, String title, Status status, Instant createdAt, Instant updatedAt) {
+public record TodoResponseDto(UUID uuid, String title, Status status, Instant createdAt, Instant updatedAt) {
   
 }
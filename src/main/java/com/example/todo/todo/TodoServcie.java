@@ -1,12 +1,19 @@
 package com.example.todo.todo;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.todo.auth.AuthService;
+import com.example.todo.exception.PreconditionFailedException;
 import com.example.todo.exception.TodoException;
 import com.example.todo.shared.UuidGenerator;
 import com.example.todo.user.User;
@@ -16,9 +23,13 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @Slf4j
 public class TodoServcie {
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 200;
+
   private final TodoRepository todoRepository;
   private final UserRepository userRepository;
 
@@ -27,22 +38,58 @@ public class TodoServcie {
 
   private final TodoDtoMapper todoDtoMapper;
 
-  @Transactional
-  public List<TodoResponseDto> getTodos() {
+  @Transactional(readOnly = true)
+  public List<TodoResponseDto> getTodos(String fields) {
     Optional<User> user = authService.getCurrentUser();
     if (user.isEmpty()) {
       log.error("User is not authenticated");
       throw new TodoException("Unauthorize Session", "User is not authenticated");
     }
 
+    Set<TodoField> selected = TodoField.parse(fields);
     log.info("Fetching todos for email=`{}`", user.get().getEmail());
-    return todoRepository.findByUser(user.get()).stream().map(todo -> todoDtoMapper.todoToDto(todo)).toList();
+    return isAllFields(selected)
+      ? todoRepository.findDtoByUserId(user.get().getId())
+      : todoRepository.findFieldsByUserId(user.get().getId(), selected);
+  }
+
+  @Transactional(readOnly = true)
+  public TodoPageDto getTodos(String cursor, Integer limit, Status status, String sort, String fields) {
+    User user = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated"));
+
+    if (limit < 1) {
+      throw new TodoException("Invalid Page Size", "limit must be greater than 0");
+    }
+
+    Sort.Direction direction = Sort.Direction.fromOptionalString(sort)
+      .orElseThrow(() -> new TodoException("Invalid Sort", String.format("sort must be `asc` or `desc`, got `%s`", sort)));
+
+    TodoCursor after = cursor == null ? null : TodoCursor.decode(cursor);
+    Set<TodoField> selected = TodoField.parse(fields);
+
+    log.info("Fetching todos page for email=`{}`", user.getEmail());
+    return todoRepository.findPage(user.getId(), status, after, direction, Math.min(limit, MAX_PAGE_SIZE), selected);
+  }
+
+  /**
+   * Cheap lookup of the current user's list version, so unchanged collections can be answered with 304 before loading them.
+   */
+  @Transactional(readOnly = true)
+  public TodoVersion getTodosVersion() {
+    User user = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated"));
+    return todoRepository.findListVersion(user.getId());
+  }
+
+  @Transactional(readOnly = true)
+  public TodoVersion getTodoVersion(String id) {
+    Long userId = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    return UuidGenerator.parse(id).flatMap(uuid -> todoRepository.findVersionByUuid(userId, uuid)).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
   }
 
   @Transactional
   public TodoResponseDto addTodo(TodoRequestDto request) {
     Long id = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
-    User user = userRepository.findById(id).get();
+    User user = userRepository.getReferenceById(id);
 
     Todo todo = Todo.builder()
       .uuid(uuidGenerator.randomUUID())
@@ -56,33 +103,94 @@ public class TodoServcie {
     return todoDtoMapper.todoToDto(todoRepository.save(todo));
   }
 
-  @Transactional
-  public TodoResponseDto getTodo(String id) {
-    Todo todo = todoRepository.findByUuid(id).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
+  @Transactional(readOnly = true)
+  public TodoResponseDto getTodo(String id, String fields) {
+    Long userId = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    Set<TodoField> selected = TodoField.parse(fields);
+    TodoResponseDto todo = UuidGenerator.parse(id)
+      .flatMap(uuid -> isAllFields(selected) ? todoRepository.findDtoByUuid(userId, uuid) : todoRepository.findFieldsByUuid(userId, uuid, selected))
+      .orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
     log.info("Fetch todo with id=`{}`", id);
-    return todoDtoMapper.todoToDto(todo);
+    return todo;
   }
 
+  /**
+   * Changes the status with one conditional update, limited to the current user's todos. When {@code expectedVersion}
+   * is set and the todo has moved on, nothing is written and a {@link PreconditionFailedException} is thrown.
+   */
   @Transactional
-  public TodoResponseDto update(String id, Status status) {
-    Todo todo = todoRepository.findByUuid(id).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
-    todo.setStatus(status);
+  public TodoResponseDto update(String id, Status status, Long expectedVersion) {
+    Long userId = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    UUID uuid = UuidGenerator.parse(id).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
+    Optional<TodoResponseDto> todo = todoRepository.updateStatusByUuid(userId, uuid, status, expectedVersion, Instant.now());
+
+    if (todo.isEmpty() && expectedVersion != null && todoRepository.existsByUserIdAndUuid(userId, uuid)) {
+      log.error("Version mismatch while changing status for todo with id=`{}`", id);
+      throw preconditionFailed(id);
+    }
+
     log.info("Change status for todo with id=`{}`", id);
-    return todoDtoMapper.todoToDto(todoRepository.save(todo));
+    return todo.orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
   }
 
   @Transactional
-  public TodoResponseDto update(String id, TodoRequestDto request) {
-    Todo todo = todoRepository.findByUuid(id).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
+  public TodoTransitionResponseDto transition(TodoTransitionRequestDto request) {
+    Long id = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+
+    if (request.from() == null || request.to() == null) {
+      throw new TodoException("Invalid Transition", "from and to status are required");
+    }
+
+    int updated = request.createdBefore() == null
+      ? todoRepository.updateStatus(id, request.from(), request.to(), Instant.now())
+      : todoRepository.updateStatusCreatedBefore(id, request.from(), request.to(), request.createdBefore(), Instant.now());
+
+    log.info("Changed status of {} todos from {} to {}", updated, request.from(), request.to());
+    return new TodoTransitionResponseDto(updated);
+  }
+
+  /**
+   * Read-modify-write guarded by the todo version, the flush issues {@code UPDATE ... WHERE version = ?}
+   * so a concurrent change is detected without holding a row lock during the read.
+   */
+  @Transactional
+  public TodoResponseDto update(String id, TodoRequestDto request, Long expectedVersion) {
+    Long userId = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    Todo todo = UuidGenerator.parse(id).flatMap(uuid -> todoRepository.findByUserIdAndUuid(userId, uuid)).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
+    if (expectedVersion != null && !expectedVersion.equals(todo.getVersion())) {
+      log.error("Version mismatch while updating title for todo with id=`{}`", id);
+      throw preconditionFailed(id);
+    }
+
     todo.setTitle(request.title());
+    try {
+      todo = todoRepository.saveAndFlush(todo);
+    } catch (ObjectOptimisticLockingFailureException e) {
+      if (expectedVersion == null) {
+        throw e;
+      }
+
+      log.error("Concurrent update of title for todo with id=`{}`", id);
+      throw preconditionFailed(id);
+    }
+
     log.info("Updated title for todo with id=`{}`", id);
-    return todoDtoMapper.todoToDto(todoRepository.save(todo));
+    return todoDtoMapper.todoToDto(todo);
   }
 
   @Transactional
   public void delete(String id) {
-    Todo todo = todoRepository.findByUuid(id).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
+    Long userId = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    Todo todo = UuidGenerator.parse(id).flatMap(uuid -> todoRepository.findByUserIdAndUuid(userId, uuid)).orElseThrow(() -> new TodoException("Todo Not Found", String.format("Todo with uuid=`%s` does not exist", id)));
     log.info("Deleting todo with id=`{}`", id);
     todoRepository.delete(todo);
   }
+
+  private PreconditionFailedException preconditionFailed(String id) {
+    return new PreconditionFailedException("Precondition Failed", String.format("Todo with uuid=`%s` was modified, fetch it again and retry", id));
+  }
+
+  private boolean isAllFields(Set<TodoField> fields) {
+    return fields.size() == TodoField.values().length;
+  }
 }
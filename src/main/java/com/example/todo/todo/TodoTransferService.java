@@ -0,0 +1,177 @@
+package com.example.todo.todo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.auth.AuthService;
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+import com.example.todo.user.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NDJSON export and import of a user's todos. Both directions work one line at a time,
+ * so memory use does not depend on how many todos the user has.
+ *
+ * An import commits every {@value #IMPORT_BATCH_SIZE} lines in its own transaction, so a slow upload
+ * only holds a connection while a chunk is written. A bad line stops the import after saving the
+ * lines before it, and the response names the failing line so the client resends from there instead
+ * of from the start. Only a bad line before anything was saved fails the request.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class TodoTransferService {
+  public static final int EXPORT_FETCH_SIZE = 500;
+  public static final int IMPORT_BATCH_SIZE = 500;
+
+  private final TodoRepository todoRepository;
+  private final UserRepository userRepository;
+
+  private final AuthService authService;
+  private final UuidGenerator uuidGenerator;
+
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+
+  public TodoTransferService(
+    TodoRepository todoRepository,
+    UserRepository userRepository,
+    AuthService authService,
+    UuidGenerator uuidGenerator,
+    ObjectMapper objectMapper,
+    EntityManager entityManager,
+    PlatformTransactionManager transactionManager
+  ) {
+    this.todoRepository = todoRepository;
+    this.userRepository = userRepository;
+    this.authService = authService;
+    this.uuidGenerator = uuidGenerator;
+    this.objectMapper = objectMapper;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Transactional(readOnly = true)
+  public long exportTodos(OutputStream outputStream) throws IOException {
+    User user = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated"));
+    ObjectWriter writer = objectMapper.writerFor(TodoResponseDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    long count = 0;
+    try (
+      Stream<TodoResponseDto> todos = todoRepository.streamByUserId(user.getId());
+      JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+    ) {
+      // Otherwise Jackson puts a space before every value after the first, and lines would start with " {".
+      generator.setRootValueSeparator(null);
+      Iterator<TodoResponseDto> iterator = todos.iterator();
+      while (iterator.hasNext()) {
+        writer.writeValue(generator, iterator.next());
+        generator.writeRaw('\n');
+        count++;
+      }
+    }
+
+    log.info("Exported {} todos for email=`{}`", count, user.getEmail());
+    return count;
+  }
+
+  public TodoImportResponseDto importTodos(InputStream inputStream) throws IOException {
+    Long id = authService.getCurrentUser().orElseThrow(() -> new TodoException("Unauthorize Session", "User is not authenticated")).getId();
+    ObjectReader reader = objectMapper.readerFor(TodoImportDto.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    long count = 0;
+    long lineNumber = 0;
+    List<TodoImportDto> chunk = new ArrayList<>(IMPORT_BATCH_SIZE);
+    BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+
+      TodoImportDto request;
+      try {
+        request = parse(reader, line, lineNumber);
+      } catch (TodoException e) {
+        count += save(id, chunk);
+        if (count == 0) {
+          throw e;
+        }
+        log.warn("Stopped import for user id=`{}` at line {} after {} todos", id, lineNumber, count);
+        return new TodoImportResponseDto(count, lineNumber, e.getMessage());
+      }
+
+      chunk.add(request);
+
+      if (chunk.size() == IMPORT_BATCH_SIZE) {
+        count += save(id, chunk);
+      }
+    }
+    count += save(id, chunk);
+
+    log.info("Imported {} todos for user id=`{}`", count, id);
+    return new TodoImportResponseDto(count);
+  }
+
+  private int save(Long id, List<TodoImportDto> chunk) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      User user = userRepository.getReferenceById(id);
+      for (TodoImportDto request : chunk) {
+        entityManager.persist(Todo.builder()
+          .uuid(uuidGenerator.randomUUID())
+          .title(request.title())
+          .status(request.status() == null ? Status.PENDING : request.status())
+          .user(user)
+          .build());
+      }
+      entityManager.flush();
+      entityManager.clear();
+    });
+
+    int saved = chunk.size();
+    chunk.clear();
+    return saved;
+  }
+
+  private TodoImportDto parse(ObjectReader reader, String line, long lineNumber) {
+    try {
+      TodoImportDto request = reader.readValue(line);
+      if (request.title() == null || request.title().isBlank()) {
+        throw new TodoException("Invalid Import", String.format("Line %d has a blank title", lineNumber));
+      }
+      return request;
+    } catch (JsonProcessingException e) {
+      throw new TodoException("Invalid Import", String.format("Line %d is not a valid todo", lineNumber));
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+
+public record TodoTransitionRequestDto(Status from, Status to, Instant createdBefore) {
+  
+}
@@ -0,0 +1,10 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+
+/**
+ * Version and last change of a single todo, or of a user's whole todo list.
+ */
+public record TodoVersion(long version, Instant updatedAt) {
+
+}
@@ -0,0 +1,17 @@
+package com.example.todo.tracing;
+
+/** The parts of a request whose time is recorded by {@link RequestTrace}. */
+public enum Phase {
+  /** JwtFilter: token verification, revocation check and loading the user from the claims. */
+  AUTHENTICATION,
+  /** BCrypt on login and sign-up, including the wait for a hashing thread. */
+  PASSWORD_HASHING,
+  /** Waiting for a pooled connection, behind the replica's lazy proxy that is on the first statement. */
+  CONNECTION,
+  /** Statement and batch executions through the application DataSource. Statements sent during a flush are counted here as well. */
+  SQL,
+  /** Hibernate flushes, dirty checking and the statements they send. */
+  FLUSH,
+  /** Jackson writing the response body. */
+  SERIALIZATION
+}
@@ -0,0 +1,29 @@
+package com.example.todo.tracing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Feeds the FLUSH phase of {@link RequestTrace}, registered with hibernate.session.events.auto.
+ * CONNECTION and SQL are timed by CountingDataSource, which also sees the JdbcTemplate queries.
+ */
+public class PhaseSessionEventListener implements SessionEventListener {
+  @Override
+  public void flushStart() {
+    RequestTrace.begin(Phase.FLUSH);
+  }
+
+  @Override
+  public void flushEnd(int numberOfEntities, int numberOfCollections) {
+    RequestTrace.end(Phase.FLUSH);
+  }
+
+  @Override
+  public void partialFlushStart() {
+    RequestTrace.begin(Phase.FLUSH);
+  }
+
+  @Override
+  public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+    RequestTrace.end(Phase.FLUSH);
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.todo.tracing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-thread time spent in each {@link Phase} between {@link #start()} and {@link #stop()}. The state of a
+ * thread is allocated once and reset for every request, so timing a phase is two {@code nanoTime} calls and
+ * an array write. Outside of a trace {@link #begin} and {@link #end} return right away, which keeps them
+ * cheap on scheduled jobs and pool threads.
+ */
+public final class RequestTrace {
+  private static final Phase[] PHASES = Phase.values();
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final ThreadLocal<RequestTrace> TRACE = new ThreadLocal<>();
+
+  private final long[] startedAt = new long[PHASES.length];
+  private final long[] nanos = new long[PHASES.length];
+  private boolean active;
+  private String user;
+
+  private RequestTrace() {}
+
+  public static void start() {
+    RequestTrace trace = TRACE.get();
+    if (trace == null) {
+      trace = new RequestTrace();
+      TRACE.set(trace);
+    }
+
+    Arrays.fill(trace.startedAt, 0);
+    Arrays.fill(trace.nanos, 0);
+    trace.user = null;
+    trace.active = true;
+  }
+
+  public static void begin(Phase phase) {
+    RequestTrace trace = TRACE.get();
+    if (trace != null && trace.active) {
+      trace.startedAt[phase.ordinal()] = System.nanoTime();
+    }
+  }
+
+  public static void end(Phase phase) {
+    RequestTrace trace = TRACE.get();
+    if (trace != null && trace.active && trace.startedAt[phase.ordinal()] != 0) {
+      trace.nanos[phase.ordinal()] += System.nanoTime() - trace.startedAt[phase.ordinal()];
+      trace.startedAt[phase.ordinal()] = 0;
+    }
+  }
+
+  /** The authenticated user, set by JwtFilter since the security context is cleared before the trace ends. */
+  public static void user(String user) {
+    RequestTrace trace = TRACE.get();
+    if (trace != null && trace.active) {
+      trace.user = user;
+    }
+  }
+
+  public static boolean isActive() {
+    RequestTrace trace = TRACE.get();
+    return trace != null && trace.active;
+  }
+
+  /** Ends the trace of the current thread, the returned state is only valid until the next {@link #start()}. */
+  public static RequestTrace stop() {
+    RequestTrace trace = TRACE.get();
+    if (trace == null) {
+      return null;
+    }
+    trace.active = false;
+    return trace;
+  }
+
+  public String getUser() {
+    return user;
+  }
+
+  /** Milliseconds per phase that was entered, copied so it outlives the trace. */
+  public Map<Phase, Double> phaseMillis() {
+    Map<Phase, Double> millis = new EnumMap<>(Phase.class);
+    for (Phase phase : PHASES) {
+      if (nanos[phase.ordinal()] > 0) {
+        millis.put(phase, nanos[phase.ordinal()] / NANOS_PER_MILLI);
+      }
+    }
+    return Collections.unmodifiableMap(millis);
+  }
+}
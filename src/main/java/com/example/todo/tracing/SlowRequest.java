@@ -0,0 +1,16 @@
+package com.example.todo.tracing;
+
+import java.time.Instant;
+import java.util.Map;
+
+/** The breakdown of one request that took longer than {@code tracing.slow-request-threshold}. */
+public record SlowRequest(
+  Instant finishedAt,
+  String requestId,
+  String endpoint,
+  int status,
+  String user,
+  double durationMillis,
+  int sqlStatements,
+  Map<Phase, Double> phaseMillis
+) {}
@@ -0,0 +1,26 @@
+package com.example.todo.tracing;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+
+/** /actuator/slowrequests, the recent slow requests newest first. It names users, so it is only served on management.server.port and needs a token. */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Endpoint(id = "slowrequests")
+@AllArgsConstructor
+public class SlowRequestEndpoint {
+  private final SlowRequestLog slowRequestLog;
+
+  @ReadOperation
+  public SlowRequests slowRequests() {
+    return new SlowRequests(slowRequestLog.total(), slowRequestLog.recent());
+  }
+
+  public record SlowRequests(long total, List<SlowRequest> recent) {}
+}
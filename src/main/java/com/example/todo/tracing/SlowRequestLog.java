@@ -0,0 +1,54 @@
+package com.example.todo.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+/**
+ * The last {@code tracing.slow-request-capacity} slow requests in a fixed ring. Writers claim a slot with one
+ * atomic increment and never wait on each other or on readers; a reader racing a full lap of writers can
+ * see a slot already replaced by a newer request, which is fine for diagnostics.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SlowRequestLog {
+  private final AtomicReferenceArray<SlowRequest> slots;
+  private final AtomicLong written = new AtomicLong();
+
+  public SlowRequestLog(@Value("${tracing.slow-request-capacity:256}") int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("tracing.slow-request-capacity must be positive");
+    }
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  public void add(SlowRequest request) {
+    long sequence = written.getAndIncrement();
+    slots.set((int) (sequence % slots.length()), request);
+  }
+
+  /** Slow requests recorded since startup, including the ones already overwritten. */
+  public long total() {
+    return written.get();
+  }
+
+  /** Newest first. */
+  public List<SlowRequest> recent() {
+    long end = written.get();
+    long start = Math.max(0, end - slots.length());
+
+    List<SlowRequest> requests = new ArrayList<>((int) (end - start));
+    for (long sequence = end - 1; sequence >= start; sequence--) {
+      SlowRequest request = slots.get((int) (sequence % slots.length()));
+      if (request != null) {
+        requests.add(request);
+      }
+    }
+    return requests;
+  }
+}
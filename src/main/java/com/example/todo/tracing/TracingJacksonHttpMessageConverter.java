@@ -0,0 +1,31 @@
+package com.example.todo.tracing;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Takes the place of Spring Boot's Jackson converter, with the same ObjectMapper, to time response bodies. */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TracingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+  public TracingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper);
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+    RequestTrace.begin(Phase.SERIALIZATION);
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      RequestTrace.end(Phase.SERIALIZATION);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.example.todo.user;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,6 +19,7 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -40,8 +42,8 @@ public class User extends AuditEntity implements UserDetails {
   @SequenceGenerator(name = "user_generator", sequenceName = "user_generator_sequence", initialValue = 101)
   private Long id;
 
-  @NotBlank(message = "uuid cannot be blank.")
-  private String uuid;
+  @NotNull(message = "uuid cannot be blank.")
+  private UUID uuid;
   
   @NotBlank(message = "password cannot be blank")
   private String password;
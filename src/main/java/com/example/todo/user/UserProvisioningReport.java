@@ -0,0 +1,12 @@
+package com.example.todo.user;
+
+/**
+ * Outcome of a bulk provisioning run. Duplicates are repeated emails within the file,
+ * existing ones were already in {@code app_user} and are left untouched.
+ */
+public record UserProvisioningReport(long created, long existing, long duplicates, long invalid, long elapsedMillis) {
+  /** Users written or skipped as existing per second. */
+  public double throughput() {
+    return elapsedMillis == 0 ? 0 : (created + existing) * 1000.0 / elapsedMillis;
+  }
+}
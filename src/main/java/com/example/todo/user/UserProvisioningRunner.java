@@ -0,0 +1,39 @@
+package com.example.todo.user;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provisions the users of a CSV file at startup, see script/provision_users.sh:
+ * {@code java -jar todo.jar --spring.main.web-application-type=none --provision.users-csv=users.csv}
+ */
+@Component
+@ConditionalOnProperty("provision.users-csv")
+@Slf4j
+public class UserProvisioningRunner implements ApplicationRunner {
+  private final UserProvisioningService userProvisioningService;
+  private final Path csv;
+
+  public UserProvisioningRunner(UserProvisioningService userProvisioningService, @Value("${provision.users-csv}") Path csv) {
+    this.userProvisioningService = userProvisioningService;
+    this.csv = csv;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    log.info("Provisioning users from `{}`", csv);
+    try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+      userProvisioningService.provision(reader);
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.example.todo.user;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.shared.UuidGenerator;
+
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates users in bulk from a CSV of {@code email,password} lines, for onboarding whole organizations.
+ *
+ * The file is read in chunks. Each chunk is hashed in parallel on a fork-join pool, while the previous
+ * chunk is written through Postgres COPY into a staging table and moved into {@code app_user} with
+ * {@code on conflict do nothing}. Every chunk commits on its own, so rerunning an interrupted import
+ * skips the users it already created. Passwords that already are BCrypt hashes are stored as they are.
+ */
+@Service
+@Profile("!reactive")
+@Slf4j
+public class UserProvisioningService {
+  public static final int CHUNK_SIZE = 1000;
+
+  // Matches the increment of user_generator_sequence, each nextval owns the ids (value - 49 .. value).
+  private static final int ID_BLOCK_SIZE = 50;
+  private static final long PROGRESS_INTERVAL_MILLIS = 5000;
+  private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final UuidGenerator uuidGenerator;
+  private final Validator validator;
+  private final BCryptPasswordEncoder passwordEncoder;
+  private final int hashingThreads;
+
+  public UserProvisioningService(
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager,
+    UuidGenerator uuidGenerator,
+    Validator validator,
+    @Value("${password.bcrypt-strength:10}") int strength,
+    @Value("${provision.hashing-threads:0}") int hashingThreads
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.uuidGenerator = uuidGenerator;
+    this.validator = validator;
+    // Not the shared encoder, its bounded queue is sized for logins and would reject a bulk load.
+    this.passwordEncoder = new BCryptPasswordEncoder(strength);
+    this.hashingThreads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+  }
+
+  public UserProvisioningReport provision(Reader csv) throws IOException {
+    long startedAt = System.currentTimeMillis();
+    Progress progress = new Progress(startedAt);
+    Set<String> emails = new HashSet<>();
+
+    ForkJoinPool hashingPool = new ForkJoinPool(hashingThreads);
+    ExecutorService writer = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<Void> written = CompletableFuture.completedFuture(null);
+      List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+      BufferedReader lines = new BufferedReader(csv);
+      long lineNumber = 0;
+      for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+        lineNumber++;
+        Row row = parse(line, lineNumber, progress);
+        if (row == null) {
+          continue;
+        }
+
+        if (!emails.add(row.email())) {
+          progress.duplicates++;
+          continue;
+        }
+
+        chunk.add(row);
+        if (chunk.size() == CHUNK_SIZE) {
+          written = submit(chunk, hashingPool, writer, written, progress);
+          chunk = new ArrayList<>(CHUNK_SIZE);
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        written = submit(chunk, hashingPool, writer, written, progress);
+      }
+      written.join();
+    } finally {
+      hashingPool.shutdown();
+      writer.shutdown();
+    }
+
+    UserProvisioningReport report = new UserProvisioningReport(progress.created, progress.existing, progress.duplicates, progress.invalid, System.currentTimeMillis() - startedAt);
+    log.info("Provisioned users, created={}, existing={}, duplicates={}, invalid={} in {} ms ({} users/s)",
+      report.created(), report.existing(), report.duplicates(), report.invalid(), report.elapsedMillis(), Math.round(report.throughput()));
+    return report;
+  }
+
+  /**
+   * Hashes the chunk while the previous one is still being written, then queues its write behind it.
+   * Waiting for the previous write first keeps at most two chunks in memory.
+   */
+  private CompletableFuture<Void> submit(List<Row> chunk, ForkJoinPool hashingPool, ExecutorService writer, CompletableFuture<Void> previous, Progress progress) {
+    List<Row> hashed = hashingPool.submit(() -> chunk.parallelStream().map(this::hash).toList()).join();
+    previous.join();
+    return CompletableFuture.runAsync(() -> write(hashed, progress), writer);
+  }
+
+  private Row hash(Row row) {
+    return BCRYPT_HASH.matcher(row.password()).matches() ? row : new Row(row.email(), passwordEncoder.encode(row.password()));
+  }
+
+  private void write(List<Row> rows, Progress progress) {
+    int created = transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("""
+          create temp table if not exists app_user_import (
+            id bigint, uuid uuid, email varchar(255), password varchar(255), created_at timestamp(6) with time zone
+          ) on commit delete rows
+          """);
+
+        copy(connection.unwrap(PGConnection.class), rows);
+        return statement.executeUpdate("""
+          insert into app_user (id, uuid, email, password, created_at, updated_at)
+          select id, uuid, email, password, created_at, created_at from app_user_import
+          on conflict (email) do nothing
+          """);
+      }
+    }));
+
+    progress.record(created, rows.size() - created);
+  }
+
+  private void copy(PGConnection connection, List<Row> rows) throws SQLException {
+    List<Long> ids = allocateIds(rows.size());
+    String createdAt = Instant.now().toString();
+
+    StringBuilder buffer = new StringBuilder(rows.size() * 128);
+    for (int i = 0; i < rows.size(); i++) {
+      Row row = rows.get(i);
+      buffer.append(ids.get(i)).append('\t')
+        .append(uuidGenerator.randomUUID()).append('\t');
+      escape(buffer, row.email()).append('\t');
+      escape(buffer, row.password()).append('\t')
+        .append(createdAt).append('\n');
+    }
+
+    try {
+      connection.getCopyAPI().copyIn("copy app_user_import (id, uuid, email, password, created_at) from stdin", new StringReader(buffer.toString()));
+    } catch (IOException e) {
+      throw new SQLException("Could not copy users into the staging table", e);
+    }
+  }
+
+  private List<Long> allocateIds(int count) {
+    int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+    List<Long> blockEnds = jdbcTemplate.queryForList("select nextval('user_generator_sequence') from generate_series(1, ?)", Long.class, blocks);
+
+    List<Long> ids = new ArrayList<>(blocks * ID_BLOCK_SIZE);
+    for (long blockEnd : blockEnds) {
+      for (long id = blockEnd - ID_BLOCK_SIZE + 1; id <= blockEnd; id++) {
+        ids.add(id);
+      }
+    }
+    return ids;
+  }
+
+  private Row parse(String line, long lineNumber, Progress progress) {
+    if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase("email,password"))) {
+      return null;
+    }
+
+    List<String> fields = fields(line);
+    Row row = fields.size() < 2 ? null : new Row(fields.get(0).trim(), fields.get(1));
+    if (row == null || !validator.validateValue(User.class, "email", row.email()).isEmpty() || !validator.validateValue(User.class, "password", row.password()).isEmpty()) {
+      progress.invalid++;
+      log.warn("Skipping invalid user on line {}", lineNumber);
+      return null;
+    }
+    return row;
+  }
+
+  /** Splits a CSV line, fields may be quoted with {@code "} and a doubled quote stands for a literal one. */
+  private static List<String> fields(String line) {
+    List<String> fields = new ArrayList<>(2);
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+        field.append('"');
+        i++;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static StringBuilder escape(StringBuilder buffer, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> buffer.append("\\\\");
+        case '\t' -> buffer.append("\\t");
+        case '\n' -> buffer.append("\\n");
+        case '\r' -> buffer.append("\\r");
+        default -> buffer.append(c);
+      }
+    }
+    return buffer;
+  }
+
+  private record Row(String email, String password) {}
+
+  /**
+   * Counters of one run. Lines are counted by the reading thread and writes by the single writer thread,
+   * the final join makes both visible to the caller.
+   */
+  private static final class Progress {
+    private final long startedAt;
+    private long lastReportAt;
+
+    private long created;
+    private long existing;
+    private long duplicates;
+    private long invalid;
+
+    Progress(long startedAt) {
+      this.startedAt = startedAt;
+      this.lastReportAt = startedAt;
+    }
+
+    void record(int created, int existing) {
+      this.created += created;
+      this.existing += existing;
+
+      long now = System.currentTimeMillis();
+      if (now - lastReportAt >= PROGRESS_INTERVAL_MILLIS) {
+        lastReportAt = now;
+        long done = this.created + this.existing;
+        log.info("Provisioning users, created={}, existing={} ({} users/s)", this.created, this.existing, done * 1000 / Math.max(now - startedAt, 1));
+      }
+    }
+  }
+}
@@ -1,12 +1,23 @@
 package com.example.todo.user;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
-  Optional<User> findByUuid(String uuid);
+  Optional<User> findByUuid(UUID uuid);
   Optional<User> findByEmail(String email);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("update User u set u.password = :password, u.updatedAt = :updatedAt where u.email = :email")
+  int updatePassword(String email, String password, Instant updatedAt);
 }
@@ -1,21 +1,51 @@
 package com.example.todo.user;
 
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
-public class UserService implements UserDetailsService {
+@Slf4j
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
   private final UserRepository userRepository;
 
+  /**
+   * Read-write so the lookup runs on the primary. A login right after sign-up is not tied to a user
+   * yet, so read-your-writes cannot keep it off a replica that has not seen the new row.
+   */
   @Override
+  @Transactional
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
     return userRepository.findByEmail(username)
       .orElseThrow(() -> new UsernameNotFoundException(String.format("User with email=`%s` do not exist", username)));
   }
+
+  /**
+   * Called after a successful login when the stored hash was made with an older cost factor.
+   * Runs in its own transaction, separate from the credential lookup.
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    userRepository.updatePassword(user.getUsername(), newPassword, Instant.now());
+    log.info("Upgraded password hash for email=`{}`", user.getUsername());
+
+    if (user instanceof User appUser) {
+      appUser.setPassword(newPassword);
+    }
+    return user;
+  }
 }
@@ -0,0 +1,35 @@
+create sequence user_generator_sequence start with 101 increment by 50;
+create sequence todo_generator_sequence start with 101 increment by 50;
+
+create table app_user (
+  id bigint not null,
+  uuid varchar(255) not null,
+  email varchar(255) not null,
+  password varchar(255) not null,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone,
+  primary key (id)
+);
+
+create unique index app_user_uuid_key on app_user (uuid);
+create unique index app_user_email_key on app_user (email);
+
+create table todo_list (
+  id bigint not null,
+  uuid varchar(255) not null,
+  title varchar(255) not null,
+  status varchar(255) check (status in ('COMPLETED', 'PENDING', 'CANCLE')),
+  app_user_id bigint references app_user (id),
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone,
+  primary key (id)
+);
+
+-- findByUuid, findByUserIdAndUuidIn, updateStatusByUuid
+create unique index todo_list_uuid_key on todo_list (uuid);
+
+-- findByUser, findByUserId (keyset), streamByUserId
+create index todo_list_user_created_at_idx on todo_list (app_user_id, created_at, id);
+
+-- findByUserIdAndStatus (keyset), updateStatus, updateStatusCreatedBefore
+create index todo_list_user_status_created_at_idx on todo_list (app_user_id, status, created_at, id);
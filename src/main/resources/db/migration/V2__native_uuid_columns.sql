@@ -0,0 +1,4 @@
+-- Store public ids as 16-byte uuid instead of varchar(255); the unique indexes are rebuilt with the new type.
+-- Rewrites both tables under an exclusive lock, so run it in a maintenance window on large datasets.
+alter table app_user alter column uuid type uuid using uuid::uuid;
+alter table todo_list alter column uuid type uuid using uuid::uuid;
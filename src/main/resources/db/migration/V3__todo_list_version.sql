@@ -0,0 +1,41 @@
+-- Per-user version of the todo list, backing the collection ETag and Last-Modified.
+-- Bumped by statement-level triggers, so set-based updates and bulk loads are covered
+-- and a batch statement touches each owner's row once. Kept out of app_user, so a todo
+-- write never locks the user row that logins and profile updates need.
+create table todo_list_version (
+  app_user_id bigint primary key references app_user (id) on delete cascade,
+  version bigint not null default 0,
+  updated_at timestamp(6) with time zone
+);
+
+insert into todo_list_version (app_user_id, version, updated_at)
+select app_user_id, 0, max(coalesce(updated_at, created_at)) from todo_list
+where app_user_id is not null
+group by app_user_id;
+
+-- now() is the transaction start, so a long transaction committing after a short one would move
+-- Last-Modified backwards. clock_timestamp() is taken once the row lock is held and greatest()
+-- keeps the value from ever decreasing.
+create function bump_todo_list_version() returns trigger language plpgsql as $$
+begin
+  insert into todo_list_version as v (app_user_id, version, updated_at)
+  select owner.app_user_id, 1, clock_timestamp()
+  from (select distinct app_user_id from changed_todos where app_user_id is not null) owner
+  on conflict (app_user_id) do update
+  set version = v.version + 1,
+      updated_at = greatest(coalesce(v.updated_at, '-infinity'), clock_timestamp());
+  return null;
+end;
+$$;
+
+create trigger todo_list_insert_version after insert on todo_list
+  referencing new table as changed_todos
+  for each statement execute function bump_todo_list_version();
+
+create trigger todo_list_update_version after update on todo_list
+  referencing new table as changed_todos
+  for each statement execute function bump_todo_list_version();
+
+create trigger todo_list_delete_version after delete on todo_list
+  referencing old table as changed_todos
+  for each statement execute function bump_todo_list_version();
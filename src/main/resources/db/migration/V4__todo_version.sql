@@ -0,0 +1,2 @@
+-- Optimistic locking for todos, every write bumps the version and updates are guarded with `where version = ?`.
+alter table todo_list add column version bigint not null default 0;
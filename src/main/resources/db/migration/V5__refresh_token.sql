@@ -0,0 +1,25 @@
+-- Rotating refresh tokens. Only the SHA-256 of a token is stored, and all tokens rotated from one
+-- login share a family_id, so replaying a used token revokes the whole chain.
+create sequence refresh_token_generator_sequence start with 101 increment by 50;
+
+create table refresh_token (
+  id bigint not null,
+  token_hash varchar(64) not null,
+  family_id uuid not null,
+  app_user_id bigint not null references app_user (id) on delete cascade,
+  expires_at timestamp(6) with time zone not null,
+  used_at timestamp(6) with time zone,
+  revoked_at timestamp(6) with time zone,
+  created_at timestamp(6) with time zone,
+  updated_at timestamp(6) with time zone,
+  primary key (id)
+);
+
+-- findByTokenHash
+create unique index refresh_token_token_hash_key on refresh_token (token_hash);
+
+-- revokeFamily
+create index refresh_token_family_id_idx on refresh_token (family_id);
+
+-- deleteExpired
+create index refresh_token_expires_at_idx on refresh_token (expires_at);
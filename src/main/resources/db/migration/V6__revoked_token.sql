@@ -0,0 +1,13 @@
+-- Access tokens revoked by logout, keyed by their jti. Rows are only needed until the token expires.
+create table revoked_token (
+  jti uuid not null,
+  expires_at timestamp(6) with time zone not null,
+  revoked_at timestamp(6) with time zone not null,
+  primary key (jti)
+);
+
+-- findRevokedSince
+create index revoked_token_revoked_at_idx on revoked_token (revoked_at);
+
+-- deleteExpired
+create index revoked_token_expires_at_idx on revoked_token (expires_at);
@@ -10,9 +10,9 @@ public class TestUtils {
   public final String VALID_EMAIL = "jhondoe@testco.in";
   public final String INVALID_EMAIL = "katedoe@testco.in";
 
-  public final String VALID_USER_UUID = UUID.randomUUID().toString();
-  public final String INVALID_USER_UUID = UUID.randomUUID().toString();
-  public final String VALID_TODO_UUID = UUID.randomUUID().toString();
+  public final UUID VALID_USER_UUID = UUID.randomUUID();
+  public final UUID INVALID_USER_UUID = UUID.randomUUID();
+  public final UUID VALID_TODO_UUID = UUID.randomUUID();
 
   public final User VALID_USER = User.builder()
     .uuid(VALID_USER_UUID)
@@ -11,15 +11,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import com.example.todo.exception.ExceptionDto;
 import com.example.todo.user.User;
 import com.example.todo.user.UserRepository;
 
@@ -42,7 +45,7 @@ public class AuthControllerTest {
   @BeforeEach
   void setup() {
     User user = User.builder()
-      .uuid(UUID.randomUUID().toString())
+      .uuid(UUID.randomUUID())
       .email("jhondoe@test.in")
       .password(passwordEncoder.encode("Jhon@24"))
       .build();
@@ -95,7 +98,7 @@ public class AuthControllerTest {
 
     //then
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-    Assertions.assertThat(response.getBody()).isEqualTo(new AuthResponseDto(null, null));
+    Assertions.assertThat(response.getBody()).isEqualTo(new AuthResponseDto(null, null, null));
   }
 
   @Test
@@ -132,6 +135,147 @@ public class AuthControllerTest {
 
     //then
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-    Assertions.assertThat(response.getBody()).isEqualTo(new AuthResponseDto(null, null));
+    Assertions.assertThat(response.getBody()).isEqualTo(new AuthResponseDto(null, null, null));
+  }
+
+  @Test
+  void should_RehashPassword_WhenLogin_WithOutdatedCost() {
+    //given
+    User user = User.builder()
+      .uuid(UUID.randomUUID())
+      .email("katedoe@test.in")
+      .password(new BCryptPasswordEncoder(4).encode("Kate@24"))
+      .build();
+    userRepository.save(user);
+
+    //when
+    ResponseEntity<AuthResponseDto> response = testRestTemplate.exchange(
+      "/todo-api/v1/auth/login",
+      HttpMethod.POST,
+      new HttpEntity<>(new AuthRequestDto("katedoe@test.in", "Kate@24")),
+      AuthResponseDto.class
+    );
+
+    //then
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    String password = userRepository.findByEmail("katedoe@test.in").orElseThrow().getPassword();
+    Assertions.assertThat(password).startsWith("$2a$10$");
+    Assertions.assertThat(passwordEncoder.matches("Kate@24", password)).isTrue();
+  }
+
+  @Test
+  void should_RotateRefreshToken_WhenRefresh() {
+    //given
+    AuthResponseDto login = login();
+
+    //when
+    ResponseEntity<AuthResponseDto> response = testRestTemplate.exchange(
+      "/todo-api/v1/auth/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(new RefreshRequestDto(login.refreshToken())),
+      AuthResponseDto.class
+    );
+
+    //then
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody().username()).isEqualTo("jhondoe@test.in");
+    Assertions.assertThat(response.getBody().authToken()).isNotBlank();
+    Assertions.assertThat(response.getBody().refreshToken()).isNotBlank().isNotEqualTo(login.refreshToken());
+  }
+
+  @Test
+  void should_RevokeFamily_WhenRefresh_WithReusedToken() {
+    //given
+    AuthResponseDto login = login();
+    AuthResponseDto refreshed = refresh(login.refreshToken()).getBody();
+
+    //when
+    ResponseEntity<ExceptionDto> reuse = testRestTemplate.exchange(
+      "/todo-api/v1/auth/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(new RefreshRequestDto(login.refreshToken())),
+      ExceptionDto.class
+    );
+
+    //then
+    Assertions.assertThat(reuse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    Assertions.assertThat(refresh(refreshed.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void should_RejectRefreshToken_AfterRevoke() {
+    //given
+    AuthResponseDto login = login();
+
+    //when
+    ResponseEntity<Void> response = testRestTemplate.exchange(
+      "/todo-api/v1/auth/revoke",
+      HttpMethod.POST,
+      new HttpEntity<>(new RefreshRequestDto(login.refreshToken())),
+      Void.class
+    );
+
+    //then
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    Assertions.assertThat(refresh(login.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void should_RejectTokens_AfterLogout() {
+    //given
+    AuthResponseDto login = login();
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(login.authToken());
+
+    //when
+    ResponseEntity<Void> response = testRestTemplate.exchange(
+      "/todo-api/v1/auth/logout",
+      HttpMethod.POST,
+      new HttpEntity<>(new RefreshRequestDto(login.refreshToken()), headers),
+      Void.class
+    );
+
+    //then
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    Assertions.assertThat(refresh(login.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+    ResponseEntity<ExceptionDto> todos = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      ExceptionDto.class
+    );
+    Assertions.assertThat(todos.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    Assertions.assertThat(todos.getBody().error()).isEqualTo("Jwt Forbidden");
+  }
+
+  @Test
+  void should_ReturnForbidden_WhenLogout_WithoutToken() {
+    ResponseEntity<Void> response = testRestTemplate.exchange(
+      "/todo-api/v1/auth/logout",
+      HttpMethod.POST,
+      HttpEntity.EMPTY,
+      Void.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private AuthResponseDto login() {
+    return testRestTemplate.exchange(
+      "/todo-api/v1/auth/login",
+      HttpMethod.POST,
+      new HttpEntity<>(new AuthRequestDto("jhondoe@test.in", "Jhon@24")),
+      AuthResponseDto.class
+    ).getBody();
+  }
+
+  private ResponseEntity<AuthResponseDto> refresh(String refreshToken) {
+    return testRestTemplate.exchange(
+      "/todo-api/v1/auth/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(new RefreshRequestDto(refreshToken)),
+      AuthResponseDto.class
+    );
   }
 }
@@ -1,11 +1,13 @@
 package com.example.todo.auth;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,12 +26,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.example.todo.exception.ServerBusyException;
 import com.example.todo.exception.TodoException;
 import com.example.todo.jwt.JwtService;
+import com.example.todo.jwt.TokenRevocationService;
 import com.example.todo.shared.UuidGenerator;
 import com.example.todo.user.User;
 import com.example.todo.user.UserRepository;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
   @Mock
@@ -43,6 +51,12 @@ public class AuthServiceTest {
   @Mock
   private JwtService jwtService;
 
+  @Mock
+  private RefreshTokenService refreshTokenService;
+
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
   @Mock
   private UuidGenerator uuidGenerator;
 
@@ -53,33 +67,33 @@ public class AuthServiceTest {
 
   @BeforeEach
   void setup() {
-    this.authService = new AuthService(userRepository, passwordEncoder, authenticationManager, jwtService, uuidGenerator);
+    this.authService = new AuthService(userRepository, passwordEncoder, authenticationManager, jwtService, refreshTokenService, tokenRevocationService, uuidGenerator);
   }
 
   @Test
   void return_AuthResponseDto_ForSuccessfullCreationOfUser() {
     String encodedPassword = "encodedPassword";
-    String uuid = "123e4567-e89b-12d3-a456-426614174000";
-    AuthResponseDto expected = new AuthResponseDto("jhondoe@test.in", "authToken");
+    UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    AuthResponseDto expected = new AuthResponseDto("jhondoe@test.in", "authToken", "refreshToken");
 
     //given
     AuthRequestDto request = new AuthRequestDto("jhondoe@test.in", "Jhon@24");
 
     //when
-    when(userRepository.findByEmail(request.email())).thenReturn(Optional.empty());
     when(uuidGenerator.randomUUID()).thenReturn(uuid);
     when(passwordEncoder.encode(request.password())).thenReturn(encodedPassword);
-    when(jwtService.generateToken(request.email())).thenReturn("authToken");
+    when(jwtService.generateToken(any(User.class))).thenReturn("authToken");
+    when(refreshTokenService.issue(any(User.class))).thenReturn("refreshToken");
 
     AuthResponseDto response = authService.signUp(request);
 
     //then
-    verify(userRepository, times(1)).findByEmail(request.email());
+    verify(userRepository, never()).findByEmail(request.email());
     verify(uuidGenerator, times(1)).randomUUID();
     verify(passwordEncoder, times(1)).encode(request.password());
-    verify(jwtService, times(1)).generateToken(request.email());
+    verify(jwtService, times(1)).generateToken(any(User.class));
 
-    verify(userRepository).save(userCaptor.capture());
+    verify(userRepository).saveAndFlush(userCaptor.capture());
     User user = userCaptor.getValue();
 
     Assertions.assertThat(user.getEmail()).isEqualTo(request.email());
@@ -95,7 +109,7 @@ public class AuthServiceTest {
     AuthRequestDto request = new AuthRequestDto("jhondoe@test.in", "Jhon@24");
 
     //when
-    when(userRepository.findByEmail(request.email())).thenReturn(Optional.of(new User()));
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("app_user_email_key"));
 
     //then
     Assertions.assertThatThrownBy(() -> authService.signUp(request))
@@ -105,21 +119,24 @@ public class AuthServiceTest {
 
   @Test
   void return_AuthResponseDto_ForSuccessfulLogin() {
-    AuthResponseDto expected = new AuthResponseDto("jhondoe@test.in", "authToken");
+    AuthResponseDto expected = new AuthResponseDto("jhondoe@test.in", "authToken", "refreshToken");
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
     Authentication authentication = new UsernamePasswordAuthenticationToken("jhondoe@test.in", "Jhon@24");
+    Authentication authenticated = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
 
     //given
     AuthRequestDto request = new AuthRequestDto("jhondoe@test.in", "Jhon@24");
 
     //when
-    when(authenticationManager.authenticate(authentication)).thenReturn(authentication);
-    when(jwtService.generateToken(request.email())).thenReturn("authToken");
+    when(authenticationManager.authenticate(authentication)).thenReturn(authenticated);
+    when(jwtService.generateToken(user)).thenReturn("authToken");
+    when(refreshTokenService.issue(user)).thenReturn("refreshToken");
 
     AuthResponseDto response = authService.login(request);
 
     //then
     verify(authenticationManager, times(1)).authenticate(authentication);
-    verify(jwtService, times(1)).generateToken(request.email());
+    verify(jwtService, times(1)).generateToken(user);
 
     Assertions.assertThat(response).isEqualTo(expected);
   }
@@ -137,9 +154,52 @@ public class AuthServiceTest {
       .hasMessage("Invalid username or password");
   }
 
+  @Test
+  void throw_ServerBusyException_WhenPasswordHashingIsSaturated() {
+    //given
+    AuthRequestDto request = new AuthRequestDto("katedoe@test.in", "Jhon@24");
+
+    //when
+    when(authenticationManager.authenticate(any(Authentication.class))).thenThrow(new ServerBusyException("Server Busy", "Too many concurrent password checks, retry shortly"));
+
+    Assertions.assertThatThrownBy(() -> authService.login(request))
+      .isInstanceOf(ServerBusyException.class);
+  }
+
+  @Test
+  void return_AuthResponseDto_ForRefresh_WithoutPasswordCheck() {
+    AuthResponseDto expected = new AuthResponseDto("jhondoe@test.in", "authToken", "nextRefreshToken");
+    User user = new User(100L, UUID.randomUUID(), null, "jhondoe@test.in");
+
+    //when
+    when(refreshTokenService.rotate("refreshToken")).thenReturn(new RotatedRefreshToken(user, "nextRefreshToken"));
+    when(jwtService.generateToken(user)).thenReturn("authToken");
+
+    AuthResponseDto response = authService.refresh(new RefreshRequestDto("refreshToken"));
+
+    //then
+    verify(authenticationManager, never()).authenticate(any(Authentication.class));
+    verify(passwordEncoder, never()).matches(any(), any());
+    Assertions.assertThat(response).isEqualTo(expected);
+  }
+
+  @Test
+  void revoke_AccessAndRefreshToken_OnLogout() {
+    Claims claims = Jwts.claims().setId(UUID.randomUUID().toString()).setSubject("jhondoe@test.in");
+
+    //when
+    when(jwtService.parse("authToken")).thenReturn(claims);
+
+    authService.logout("Bearer authToken", new RefreshRequestDto("refreshToken"));
+
+    //then
+    verify(tokenRevocationService, times(1)).revoke(claims);
+    verify(refreshTokenService, times(1)).revoke("refreshToken");
+  }
+
   @Test
   void return_UserOptional_IfUserLogin() {
-    User user = new User(100L, "random-uuid", "encoded-password", "jhondoe@test.in");
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
     Authentication authentication = Mockito.mock(Authentication.class);
     Mockito.when(authentication.getPrincipal()).thenReturn(user);
 
@@ -0,0 +1,90 @@
+package com.example.todo.auth;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.todo.exception.ServerBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTest {
+  private final ExecutorService callers = Executors.newFixedThreadPool(2);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BoundedPasswordEncoder passwordEncoder;
+
+  @AfterEach
+  void shutdown() {
+    callers.shutdownNow();
+    if (passwordEncoder != null) {
+      passwordEncoder.shutdown();
+    }
+  }
+
+  @Test
+  void encode_AndMatch_OnHashingThreads() {
+    passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, meterRegistry);
+
+    String hash = passwordEncoder.encode("Jhon@24");
+
+    Assertions.assertThat(passwordEncoder.matches("Jhon@24", hash)).isTrue();
+    Assertions.assertThat(passwordEncoder.matches("wrong", hash)).isFalse();
+    Assertions.assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void upgradeEncoding_ForHashWithLowerCost() {
+    passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, meterRegistry);
+
+    Assertions.assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Jhon@24"))).isTrue();
+    Assertions.assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("Jhon@24"))).isFalse();
+  }
+
+  @Test
+  void throw_ServerBusyException_WhenQueueIsFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1, meterRegistry);
+
+    Future<String> running = callers.submit(() -> passwordEncoder.encode("first"));
+    Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<String> queued = callers.submit(() -> passwordEncoder.encode("second"));
+    Thread.sleep(100);
+
+    Assertions.assertThatThrownBy(() -> passwordEncoder.encode("third"))
+      .isInstanceOf(ServerBusyException.class);
+    Assertions.assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get("password.hashing.queue").gauge().value()).isEqualTo(1);
+
+    release.countDown();
+    Assertions.assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    Assertions.assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+  }
+
+  private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+    @Override
+    public String encode(CharSequence rawPassword) {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
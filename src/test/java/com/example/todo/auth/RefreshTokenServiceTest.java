@@ -0,0 +1,135 @@
+package com.example.todo.auth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo.exception.InvalidTokenException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+  private static final long EXPIRATION_SECONDS = 3600;
+
+  @Mock
+  private RefreshTokenRepository refreshTokenRepository;
+
+  @Mock
+  private UuidGenerator uuidGenerator;
+
+  @Captor
+  private ArgumentCaptor<RefreshToken> refreshTokenCaptor;
+
+  private RefreshTokenService refreshTokenService;
+
+  private final User user = new User(100L, UUID.randomUUID(), null, "jhondoe@test.in");
+  private final UUID familyId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() {
+    this.refreshTokenService = new RefreshTokenService(refreshTokenRepository, uuidGenerator, EXPIRATION_SECONDS);
+  }
+
+  private RefreshToken stored(String token, Instant expiresAt, Instant revokedAt) {
+    return RefreshToken.builder()
+      .id(1L)
+      .tokenHash(RefreshTokens.hash(token))
+      .familyId(familyId)
+      .user(user)
+      .expiresAt(expiresAt)
+      .revokedAt(revokedAt)
+      .build();
+  }
+
+  @Test
+  void store_OnlyHashOfToken_ForNewFamily() {
+    when(uuidGenerator.randomUUID()).thenReturn(familyId);
+
+    String token = refreshTokenService.issue(user);
+
+    verify(refreshTokenRepository).save(refreshTokenCaptor.capture());
+    RefreshToken refreshToken = refreshTokenCaptor.getValue();
+
+    Assertions.assertThat(token).hasSize(43);
+    Assertions.assertThat(refreshToken.getTokenHash()).isEqualTo(RefreshTokens.hash(token)).isNotEqualTo(token);
+    Assertions.assertThat(refreshToken.getFamilyId()).isEqualTo(familyId);
+    Assertions.assertThat(refreshToken.getUser()).isEqualTo(user);
+    Assertions.assertThat(refreshToken.getExpiresAt()).isAfter(Instant.now().plusSeconds(EXPIRATION_SECONDS - 60));
+  }
+
+  @Test
+  void return_Successor_InSameFamily_ForValidToken() {
+    when(refreshTokenRepository.findByTokenHash(RefreshTokens.hash("token"))).thenReturn(Optional.of(stored("token", Instant.now().plusSeconds(60), null)));
+    when(refreshTokenRepository.markUsed(eq(1L), any(Instant.class))).thenReturn(1);
+
+    RotatedRefreshToken rotated = refreshTokenService.rotate("token");
+
+    verify(refreshTokenRepository).save(refreshTokenCaptor.capture());
+    Assertions.assertThat(rotated.user()).isEqualTo(user);
+    Assertions.assertThat(rotated.refreshToken()).isNotEqualTo("token");
+    Assertions.assertThat(refreshTokenCaptor.getValue().getFamilyId()).isEqualTo(familyId);
+    Assertions.assertThat(refreshTokenCaptor.getValue().getTokenHash()).isEqualTo(RefreshTokens.hash(rotated.refreshToken()));
+  }
+
+  @Test
+  void revoke_Family_ForReusedToken() {
+    when(refreshTokenRepository.findByTokenHash(RefreshTokens.hash("token"))).thenReturn(Optional.of(stored("token", Instant.now().plusSeconds(60), null)));
+    when(refreshTokenRepository.markUsed(eq(1L), any(Instant.class))).thenReturn(0);
+
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("token"))
+      .isInstanceOf(InvalidTokenException.class);
+
+    verify(refreshTokenRepository, times(1)).revokeFamily(eq(familyId), any(Instant.class));
+    verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+  }
+
+  @Test
+  void throw_InvalidTokenException_ForExpiredOrRevokedToken() {
+    when(refreshTokenRepository.findByTokenHash(RefreshTokens.hash("expired"))).thenReturn(Optional.of(stored("expired", Instant.now().minusSeconds(1), null)));
+    when(refreshTokenRepository.findByTokenHash(RefreshTokens.hash("revoked"))).thenReturn(Optional.of(stored("revoked", Instant.now().plusSeconds(60), Instant.now())));
+
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("expired"))
+      .isInstanceOf(InvalidTokenException.class);
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("revoked"))
+      .isInstanceOf(InvalidTokenException.class);
+
+    verify(refreshTokenRepository, never()).markUsed(any(), any());
+  }
+
+  @Test
+  void throw_InvalidTokenException_ForUnknownOrMissingToken() {
+    when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+      .isInstanceOf(InvalidTokenException.class)
+      .hasMessage("Refresh token is invalid, expired or revoked");
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate(null))
+      .isInstanceOf(InvalidTokenException.class);
+  }
+
+  @Test
+  void revoke_Family_ForKnownToken() {
+    when(refreshTokenRepository.findByTokenHash(RefreshTokens.hash("token"))).thenReturn(Optional.of(stored("token", Instant.now().plusSeconds(60), null)));
+
+    refreshTokenService.revoke("token");
+
+    verify(refreshTokenRepository, times(1)).revokeFamily(eq(familyId), any(Instant.class));
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.todo.datasource;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.todo.tracing.Phase;
+import com.example.todo.tracing.RequestTrace;
+
+@ExtendWith(MockitoExtension.class)
+public class CountingDataSourceTest {
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement preparedStatement;
+
+  @Mock
+  private Statement statement;
+
+  private CountingDataSource countingDataSource;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    when(dataSource.getConnection()).thenReturn(connection);
+    countingDataSource = new CountingDataSource(dataSource);
+  }
+
+  @AfterEach
+  void stop() {
+    SqlStatementCounter.stop();
+    RequestTrace.stop();
+  }
+
+  @Test
+  void count_PreparedAndExecutedStatements_WhileCounting() throws SQLException {
+    when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+    when(connection.createStatement()).thenReturn(statement);
+    SqlStatementCounter.start();
+
+    Connection counted = countingDataSource.getConnection();
+    counted.prepareStatement("select 1").executeQuery();
+    Statement created = counted.createStatement();
+    created.execute("select 2");
+    created.executeUpdate("delete from todo_list");
+    counted.commit();
+
+    Assertions.assertThat(SqlStatementCounter.stop()).isEqualTo(3);
+  }
+
+  @Test
+  void return_UnwrappedConnection_WhenNotCounting() throws SQLException {
+    Assertions.assertThat(countingDataSource.getConnection()).isSameAs(connection);
+  }
+
+  @Test
+  void time_Executes_AsSqlPhase_WhileTracing() throws SQLException {
+    when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenAnswer(invocation -> {
+      Thread.sleep(10);
+      return null;
+    });
+    RequestTrace.start();
+
+    countingDataSource.getConnection().prepareStatement("select 1").executeQuery();
+
+    Map<Phase, Double> phaseMillis = RequestTrace.stop().phaseMillis();
+    Assertions.assertThat(phaseMillis).containsKey(Phase.SQL);
+    Assertions.assertThat(phaseMillis.get(Phase.SQL)).isGreaterThanOrEqualTo(10);
+  }
+
+  @Test
+  void time_LazyAcquisition_AsConnectionPhase() throws SQLException {
+    when(dataSource.getConnection()).thenAnswer(invocation -> {
+      Thread.sleep(10);
+      return connection;
+    });
+    when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+    LazyConnectionDataSourceProxy lazyDataSource = new LazyConnectionDataSourceProxy(dataSource);
+    lazyDataSource.setDefaultAutoCommit(true);
+    lazyDataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    RequestTrace.start();
+
+    Connection lazy = new CountingDataSource(lazyDataSource).getConnection();
+    verify(dataSource, never()).getConnection();
+    lazy.prepareStatement("select 1").executeQuery();
+
+    Assertions.assertThat(RequestTrace.stop().phaseMillis().get(Phase.CONNECTION)).isGreaterThanOrEqualTo(10);
+  }
+}
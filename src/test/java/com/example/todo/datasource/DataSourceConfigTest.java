@@ -0,0 +1,39 @@
+package com.example.todo.datasource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class DataSourceConfigTest {
+  private final MockEnvironment environment = new MockEnvironment()
+    .withProperty("spring.datasource.hikari.maximum-pool-size", "24")
+    .withProperty("spring.datasource.hikari.connection-timeout", "1500")
+    .withProperty("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "true")
+    .withProperty("datasource.replica.jdbc-url", "jdbc:postgresql://replica:5432/todo-db")
+    .withProperty("datasource.replica.maximum-pool-size", "8");
+
+  private DataSourceProperties primaryProperties() throws Exception {
+    DataSourceProperties properties = new DataSourceProperties();
+    properties.setUrl("jdbc:postgresql://primary:5432/todo-db");
+    properties.setUsername("todo");
+    properties.setPassword("secret");
+    properties.afterPropertiesSet();
+    return properties;
+  }
+
+  @Test
+  void inherit_PrimaryPoolSettings_AndApplyReplicaOverrides() throws Exception {
+    try (HikariDataSource replica = new DataSourceConfig().replicaDataSource(primaryProperties(), environment)) {
+      Assertions.assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:postgresql://replica:5432/todo-db");
+      Assertions.assertThat(replica.getUsername()).isEqualTo("todo");
+      Assertions.assertThat(replica.getMaximumPoolSize()).isEqualTo(8);
+      Assertions.assertThat(replica.getConnectionTimeout()).isEqualTo(1500);
+      Assertions.assertThat(replica.getDataSourceProperties()).containsEntry("reWriteBatchedInserts", "true");
+      Assertions.assertThat(replica.getPoolName()).isEqualTo("replica");
+      Assertions.assertThat(replica.isReadOnly()).isTrue();
+    }
+  }
+}
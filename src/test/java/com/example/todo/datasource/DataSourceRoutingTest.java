@@ -0,0 +1,134 @@
+package com.example.todo.datasource;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.todo.auth.AuthRequestDto;
+import com.example.todo.auth.AuthResponseDto;
+import com.example.todo.auth.AuthService;
+import com.example.todo.user.User;
+import com.example.todo.user.UserRepository;
+
+@Testcontainers
+@SpringBootTest
+@TestPropertySource(properties = {"spring.jpa.show-sql=false", "datasource.read-your-writes-seconds=2"})
+public class DataSourceRoutingTest {
+  @Container
+  private static PostgreSQLContainer<?> primaryContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"))
+    .withDatabaseName("todo_primary");
+
+  @Container
+  private static PostgreSQLContainer<?> replicaContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"))
+    .withDatabaseName("todo_replica");
+
+  @DynamicPropertySource
+  static void datasources(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", primaryContainer::getJdbcUrl);
+    registry.add("spring.datasource.username", primaryContainer::getUsername);
+    registry.add("spring.datasource.password", primaryContainer::getPassword);
+    registry.add("datasource.replica.jdbc-url", replicaContainer::getJdbcUrl);
+    registry.add("datasource.replica.username", replicaContainer::getUsername);
+    registry.add("datasource.replica.password", replicaContainer::getPassword);
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @BeforeAll
+  static void migrateReplica() {
+    // Two independent servers stand in for a streaming replica, so the replica gets the schema but never the rows.
+    Flyway.configure()
+      .dataSource(replicaContainer.getJdbcUrl(), replicaContainer.getUsername(), replicaContainer.getPassword())
+      .load()
+      .migrate();
+  }
+
+  @AfterEach
+  void purge() {
+    SecurityContextHolder.clearContext();
+    userRepository.deleteAll();
+  }
+
+  private String currentDatabase(boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select current_database()", String.class));
+  }
+
+  private void authenticate(Long userId) {
+    User user = User.builder().id(userId).uuid(UUID.randomUUID()).email("jhondoe@test.in").build();
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+  }
+
+  @Test
+  void routes_ReadOnlyTransactions_ToReplica() {
+    Assertions.assertThat(currentDatabase(true)).isEqualTo("todo_replica");
+    Assertions.assertThat(currentDatabase(false)).isEqualTo("todo_primary");
+    Assertions.assertThat(jdbcTemplate.queryForObject("select current_database()", String.class)).isEqualTo("todo_primary");
+  }
+
+  @Test
+  void routes_RepositoryReads_ToReplica() {
+    userRepository.save(User.builder().uuid(UUID.randomUUID()).email("jhondoe@test.in").password("Jhon@24").build());
+
+    Assertions.assertThat(jdbcTemplate.queryForObject("select count(*) from app_user", Long.class)).isEqualTo(1L);
+    Assertions.assertThat(userRepository.findByEmail("jhondoe@test.in")).isEmpty();
+  }
+
+  @Test
+  void routes_LoginLookup_ToPrimary_RightAfterSignUp() {
+    userRepository.save(User.builder().uuid(UUID.randomUUID()).email("jhondoe@test.in").password(passwordEncoder.encode("Jhon@24")).build());
+
+    AuthResponseDto response = authService.login(new AuthRequestDto("jhondoe@test.in", "Jhon@24"));
+
+    Assertions.assertThat(response.authToken()).isNotBlank();
+  }
+
+  @Test
+  void routes_ReadsToPrimary_WithinReadYourWritesWindow() throws InterruptedException {
+    authenticate(101L);
+    currentDatabase(false);
+
+    Assertions.assertThat(currentDatabase(true)).isEqualTo("todo_primary");
+
+    authenticate(102L);
+    Assertions.assertThat(currentDatabase(true)).isEqualTo("todo_replica");
+
+    authenticate(101L);
+    Thread.sleep(2000);
+    Assertions.assertThat(currentDatabase(true)).isEqualTo("todo_replica");
+  }
+}
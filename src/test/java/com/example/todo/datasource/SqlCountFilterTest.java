@@ -0,0 +1,74 @@
+package com.example.todo.datasource;
+
+import java.io.IOException;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+public class SqlCountFilterTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private FilterChain issuing(int statements) {
+    return (request, response) -> {
+      ((MockHttpServletRequest) request).setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todo-api/v1/todo");
+      for (int i = 0; i < statements; i++) {
+        SqlStatementCounter.increment("select 1");
+      }
+      response.getWriter().write("[]");
+      response.flushBuffer();
+    };
+  }
+
+  @Test
+  void set_CountHeader_WhenEnabled() throws ServletException, IOException {
+    SqlCountFilter filter = new SqlCountFilter(true, 10, 0, meterRegistry);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), response, issuing(2));
+
+    Assertions.assertThat(response.getHeader(SqlCountFilter.HEADER)).isEqualTo("2");
+    Assertions.assertThat(SqlStatementCounter.isActive()).isFalse();
+  }
+
+  @Test
+  void meter_Request_AboveThreshold() throws ServletException, IOException {
+    SqlCountFilter filter = new SqlCountFilter(false, 3, 0, meterRegistry);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), response, issuing(3));
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), issuing(4));
+
+    Assertions.assertThat(response.getHeader(SqlCountFilter.HEADER)).isNull();
+    Assertions.assertThat(meterRegistry.get("sql.statements").summary().count()).isEqualTo(2);
+    Assertions.assertThat(meterRegistry.get("sql.statements.exceeded").tag("endpoint", "GET /todo-api/v1/todo").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void log_Statements_OfSampledRequests() throws ServletException, IOException {
+    Logger logger = (Logger) LoggerFactory.getLogger(SqlStatementCounter.class);
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    appender.start();
+    logger.addAppender(appender);
+    try {
+      new SqlCountFilter(false, 10, 0, meterRegistry).doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), issuing(2));
+      Assertions.assertThat(appender.list).isEmpty();
+
+      new SqlCountFilter(false, 10, 1, meterRegistry).doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), issuing(2));
+      Assertions.assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+        .containsExactly("SQL statement 1: `select 1`", "SQL statement 2: `select 1`");
+    } finally {
+      logger.detachAppender(appender);
+    }
+  }
+}
@@ -1,14 +1,18 @@
 package com.example.todo.jwt;
 
+import java.util.UUID;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.TestPropertySource;
 
 import com.example.todo.user.User;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 
 
@@ -18,10 +22,18 @@ public class JwtServiceTest {
   @Autowired
   private JwtService jwtService;
 
+  private User user(String username) {
+    return User.builder()
+      .id(101L)
+      .uuid(UUID.randomUUID())
+      .email(username)
+      .build();
+  }
+
   @Test
   void returnToken_ForGivenUserName() {
     String username = "jhondoe@test.in";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(user(username));
 
     Assertions.assertThat(token).isNotNull();
     Assertions.assertThat(token.length()).isGreaterThan(0);
@@ -30,7 +42,7 @@ public class JwtServiceTest {
   @Test
   void returnTrue_ForValidToken() {
     String username = "jhondoe@test.in";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(user(username));
 
     UserDetails userDetails = new User(null, null, null, username);
     Assertions.assertThat(jwtService.isValid(userDetails, token)).isTrue();
@@ -39,16 +51,59 @@ public class JwtServiceTest {
   @Test
   void returnFalse_ForInValidUsername() {
     String username = "jhondoe@test.in";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(user(username));
 
     UserDetails userDetails = new User(null, null, null, "katedoe@test.in");
     Assertions.assertThat(jwtService.isValid(userDetails, token)).isFalse();
   }
 
+  @Test
+  void returnClaims_ForParsedToken() {
+    String username = "jhondoe@test.in";
+    String token = jwtService.generateToken(user(username));
+
+    Claims claims = jwtService.parse(token);
+
+    Assertions.assertThat(claims.getSubject()).isEqualTo(username);
+    Assertions.assertThat(jwtService.parse(token)).isSameAs(claims);
+  }
+
+  @Test
+  void returnUniqueJti_ForEachToken() {
+    User user = user("jhondoe@test.in");
+
+    String first = jwtService.parse(jwtService.generateToken(user)).getId();
+    String second = jwtService.parse(jwtService.generateToken(user)).getId();
+
+    Assertions.assertThat(first).isNotBlank().isNotEqualTo(second);
+  }
+
+  @Test
+  void returnPrincipal_FromClaims() {
+    User user = user("jhondoe@test.in");
+    Claims claims = jwtService.parse(jwtService.generateToken(user));
+
+    User principal = jwtService.getUser(claims);
+
+    Assertions.assertThat(principal.getId()).isEqualTo(user.getId());
+    Assertions.assertThat(principal.getUuid()).isEqualTo(user.getUuid());
+    Assertions.assertThat(principal.getEmail()).isEqualTo(user.getEmail());
+    Assertions.assertThat(jwtService.getAuthorities(claims)).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_user");
+  }
+
+  @Test
+  void throw_JwtException_ForTamperedToken() {
+    String token = jwtService.generateToken(user("jhondoe@test.in"));
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+    Assertions.assertThatThrownBy(() -> jwtService.parse(tampered))
+      .isInstanceOf(JwtException.class);
+  }
+
   @Test
   void throw_JwtException_ForInvalidToken() throws InterruptedException {
     String username = "jhondoe@test.in";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(user(username));
     Thread.sleep(2000);
 
     UserDetails userDetails = new User(null, null, null, "jhondoe@test.in");
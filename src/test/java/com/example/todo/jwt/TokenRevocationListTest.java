@@ -0,0 +1,90 @@
+package com.example.todo.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TokenRevocationListTest {
+  private static final long GENERATION_MILLIS = 120_000;
+
+  private long inOneMinute() {
+    return System.currentTimeMillis() + 60_000;
+  }
+
+  @Test
+  void return_Revoked_ForAddedJti() {
+    TokenRevocationList list = new TokenRevocationList(100, GENERATION_MILLIS);
+    String jti = UUID.randomUUID().toString();
+
+    list.add(jti, inOneMinute());
+
+    Assertions.assertThat(list.mightBeRevoked(jti)).isTrue();
+    Assertions.assertThat(list.isRevoked(jti)).isTrue();
+    Assertions.assertThat(list.isRevoked(UUID.randomUUID().toString())).isFalse();
+  }
+
+  @Test
+  void keeps_FalsePositives_NearConfiguredRate() {
+    TokenRevocationList list = new TokenRevocationList(10_000, GENERATION_MILLIS);
+    List<String> revoked = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      String jti = UUID.randomUUID().toString();
+      revoked.add(jti);
+      list.add(jti, inOneMinute());
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (list.mightBeRevoked(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    Assertions.assertThat(revoked).allMatch(list::mightBeRevoked);
+    Assertions.assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  void ignores_ExpiredTokens() {
+    TokenRevocationList list = new TokenRevocationList(100, GENERATION_MILLIS);
+    String jti = UUID.randomUUID().toString();
+
+    list.add(jti, System.currentTimeMillis() - 1);
+
+    Assertions.assertThat(list.mightBeRevoked(jti)).isFalse();
+    Assertions.assertThat(list.size()).isEqualTo(0);
+  }
+
+  @Test
+  void forgets_Jti_AfterTwoGenerations() {
+    TokenRevocationList list = new TokenRevocationList(100, GENERATION_MILLIS);
+    String jti = UUID.randomUUID().toString();
+    long now = System.currentTimeMillis();
+    list.add(jti, inOneMinute());
+
+    list.evictExpired(now + GENERATION_MILLIS);
+    Assertions.assertThat(list.mightBeRevoked(jti)).isTrue();
+    Assertions.assertThat(list.size()).isEqualTo(0);
+
+    list.evictExpired(now + 2 * GENERATION_MILLIS);
+    Assertions.assertThat(list.mightBeRevoked(jti)).isFalse();
+  }
+
+  @Test
+  void keeps_OnlyFilter_WhenExactSetIsFull() {
+    TokenRevocationList list = new TokenRevocationList(1, GENERATION_MILLIS);
+    String first = UUID.randomUUID().toString();
+    String second = UUID.randomUUID().toString();
+
+    list.add(first, inOneMinute());
+    list.add(second, inOneMinute());
+
+    Assertions.assertThat(list.size()).isEqualTo(1);
+    Assertions.assertThat(list.isRevoked(first)).isTrue();
+    Assertions.assertThat(list.mightBeRevoked(second)).isTrue();
+    Assertions.assertThat(list.isRevoked(second)).isFalse();
+  }
+}
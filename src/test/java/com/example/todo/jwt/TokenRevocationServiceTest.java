@@ -0,0 +1,94 @@
+package com.example.todo.jwt;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+  @Mock
+  private RevokedTokenRepository revokedTokenRepository;
+
+  private TokenRevocationService tokenRevocationService;
+
+  @BeforeEach
+  void setup() {
+    this.tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 120, 1);
+  }
+
+  private Claims claims(UUID jti) {
+    return Jwts.claims()
+      .setId(jti == null ? null : jti.toString())
+      .setSubject("jhondoe@test.in")
+      .setExpiration(Date.from(Instant.now().plusSeconds(60)));
+  }
+
+  @Test
+  void return_False_WithoutDatabase_ForTokenNeverRevoked() {
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims(UUID.randomUUID()))).isFalse();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims(null))).isFalse();
+
+    verifyNoInteractions(revokedTokenRepository);
+  }
+
+  @Test
+  void return_True_ForRevokedToken() {
+    UUID jti = UUID.randomUUID();
+
+    tokenRevocationService.revoke(claims(jti));
+
+    verify(revokedTokenRepository, times(1)).insert(eq(jti), any(Instant.class), any(Instant.class));
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims(jti))).isTrue();
+    verify(revokedTokenRepository, never()).existsById(any());
+  }
+
+  @Test
+  void check_Database_ForFilterHit_BeyondExactSet() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(revokedTokenRepository.existsById(second)).thenReturn(true);
+
+    tokenRevocationService.revoke(claims(first));
+    tokenRevocationService.revoke(claims(second));
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims(second))).isTrue();
+    verify(revokedTokenRepository, times(1)).existsById(second);
+  }
+
+  @Test
+  void skip_Revocation_ForTokenWithoutJti() {
+    tokenRevocationService.revoke(claims(null));
+
+    verifyNoInteractions(revokedTokenRepository);
+  }
+
+  @Test
+  void load_RevocationsOfOtherInstances_OnSync() {
+    UUID jti = UUID.randomUUID();
+    when(revokedTokenRepository.findRevokedSince(any(Instant.class), any(Instant.class)))
+      .thenReturn(List.of(new RevokedToken(jti, Instant.now().plusSeconds(60), Instant.now())));
+
+    tokenRevocationService.sync();
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims(jti))).isTrue();
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.jwt;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+public class VerifiedTokenCacheTest {
+  private Claims claims(Instant expiration) {
+    return Jwts.claims().setSubject("jhondoe@test.in").setExpiration(Date.from(expiration));
+  }
+
+  @Test
+  void return_Claims_ForCachedToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    Claims claims = claims(Instant.now().plusSeconds(60));
+
+    cache.put("token", claims);
+
+    Assertions.assertThat(cache.get("token")).isSameAs(claims);
+    Assertions.assertThat(cache.get("other-token")).isNull();
+  }
+
+  @Test
+  void return_Null_ForExpiredToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    cache.put("token", claims(Instant.now().minusSeconds(1)));
+
+    Assertions.assertThat(cache.get("token")).isNull();
+    Assertions.assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  void expires_Entry_WithItsToken() throws InterruptedException {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    cache.put("token", claims(Instant.now().plusMillis(50)));
+
+    Thread.sleep(100);
+
+    Assertions.assertThat(cache.get("token")).isNull();
+  }
+
+  @Test
+  void skips_AlreadyExpiredTokens() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(2);
+    cache.put("expired-token", claims(Instant.now().minusSeconds(1)));
+    cache.put("first-token", claims(Instant.now().plusSeconds(60)));
+    cache.put("second-token", claims(Instant.now().plusSeconds(60)));
+
+    Assertions.assertThat(cache.size()).isEqualTo(2);
+    Assertions.assertThat(cache.get("expired-token")).isNull();
+    Assertions.assertThat(cache.get("second-token")).isNotNull();
+  }
+
+  @Test
+  void stays_Bounded_UnderBurstOfDistinctTokens() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(100);
+    for (int i = 0; i < 10_000; i++) {
+      cache.put("token-" + i, claims(Instant.now().plusSeconds(60)));
+    }
+
+    Assertions.assertThat(cache.size()).isEqualTo(100);
+  }
+
+  @Test
+  void return_Null_WhenCacheDisabled() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(0);
+    cache.put("token", claims(Instant.now().plusSeconds(60)));
+
+    Assertions.assertThat(cache.get("token")).isNull();
+  }
+}
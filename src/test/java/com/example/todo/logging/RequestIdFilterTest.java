@@ -0,0 +1,45 @@
+package com.example.todo.logging;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+public class RequestIdFilterTest {
+  private final RequestIdFilter filter = new RequestIdFilter();
+  private final AtomicReference<String> logged = new AtomicReference<>();
+  private final FilterChain chain = (request, response) -> logged.set(MDC.get(RequestIdFilter.MDC_KEY));
+
+  @Test
+  void keep_RequestId_FromHeader() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todo-api/v1/todo");
+    request.addHeader(RequestIdFilter.HEADER, "edge-7f3a.1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, chain);
+
+    Assertions.assertThat(logged.get()).isEqualTo("edge-7f3a.1");
+    Assertions.assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("edge-7f3a.1");
+    Assertions.assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+  }
+
+  @Test
+  void generate_RequestId_WhenHeaderIsMissingOrUnsafe() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todo-api/v1/todo");
+    request.addHeader(RequestIdFilter.HEADER, "id\n12:00:00 ERROR forged line");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, chain);
+
+    Assertions.assertThat(logged.get()).isNotBlank().doesNotContain("forged");
+    Assertions.assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo(logged.get());
+    Assertions.assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+  }
+}
@@ -0,0 +1,487 @@
+package com.example.todo.reactive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.todo.auth.AuthRequestDto;
+import com.example.todo.auth.AuthResponseDto;
+import com.example.todo.auth.RefreshRequestDto;
+import com.example.todo.exception.ExceptionDto;
+import com.example.todo.todo.Status;
+import com.example.todo.todo.TodoBatchResponseDto;
+import com.example.todo.todo.TodoBatchResult;
+import com.example.todo.todo.TodoImportResponseDto;
+import com.example.todo.todo.TodoPageDto;
+import com.example.todo.todo.TodoRequestDto;
+import com.example.todo.todo.TodoResponseDto;
+
+/**
+ * Runs the todo API contract against the WebFlux and R2DBC stack.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+public class ReactiveTodoControllerTest {
+  @Container
+  @ServiceConnection
+  private static PostgreSQLContainer<?> pSqlContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"));
+
+  // Flyway reads its own url in the reactive profile, the service connection only covers JDBC and R2DBC.
+  @DynamicPropertySource
+  static void flywayProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.flyway.url", pSqlContainer::getJdbcUrl);
+    registry.add("spring.flyway.user", pSqlContainer::getUsername);
+    registry.add("spring.flyway.password", pSqlContainer::getPassword);
+  }
+
+  @Autowired
+  private ReactiveUserRepository userRepository;
+
+  @Autowired
+  private ReactiveTodoRepository todoRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setup() {
+    userRepository.insert(UUID.randomUUID(), "jhondoe@test.in", passwordEncoder.encode("Jhon@24"), Instant.now()).block();
+  }
+
+  @AfterEach
+  void purge() {
+    todoRepository.deleteAll().block();
+    userRepository.deleteAll().block();
+  }
+
+  @Test
+  void connectionIsEstablished() {
+    Assertions.assertThat(pSqlContainer.isCreated()).isTrue();
+    Assertions.assertThat(pSqlContainer.isRunning()).isTrue();
+  }
+
+  String authenticate() {
+    return authenticate("jhondoe@test.in", "Jhon@24");
+  }
+
+  /** Signs in as a second user, created on first use. */
+  String authenticateOther() {
+    if (userRepository.findByEmail("katedoe@test.in").block() == null) {
+      userRepository.insert(UUID.randomUUID(), "katedoe@test.in", passwordEncoder.encode("Kate@24"), Instant.now()).block();
+    }
+    return authenticate("katedoe@test.in", "Kate@24");
+  }
+
+  String authenticate(String email, String password) {
+    return webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto(email, password))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody().authToken();
+  }
+
+  TodoResponseDto addTodo(String token, String title) {
+    return webTestClient.post().uri("/todo-api/v1/todo")
+      .headers(headers -> headers.setBearerAuth(token))
+      .bodyValue(new TodoRequestDto(title))
+      .exchange()
+      .expectStatus().isCreated()
+      .expectBody(TodoResponseDto.class)
+      .returnResult().getResponseBody();
+  }
+
+  @Test
+  void should_SignUpAndRejectDuplicates() {
+    AuthResponseDto response = webTestClient.post().uri("/todo-api/v1/auth/sign-up")
+      .bodyValue(new AuthRequestDto("katedoe@test.in", "Kate@24"))
+      .exchange()
+      .expectStatus().isCreated()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody();
+
+    Assertions.assertThat(response.username()).isEqualTo("katedoe@test.in");
+    Assertions.assertThat(response.authToken()).isNotBlank();
+
+    webTestClient.post().uri("/todo-api/v1/auth/sign-up")
+      .bodyValue(new AuthRequestDto("katedoe@test.in", "Kate@24"))
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody(ExceptionDto.class)
+      .value(exception -> Assertions.assertThat(exception.error()).isEqualTo("Duplicate Entry"));
+  }
+
+  @Test
+  void should_ReturnBadRequest_WhenLogin_ForInvalidCredentials() {
+    webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto("jhondoe@test.in", "wrong"))
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody(ExceptionDto.class)
+      .value(exception -> Assertions.assertThat(exception.message()).isEqualTo("Invalid username or password"));
+  }
+
+  @Test
+  void should_RehashPassword_WhenLogin_WithOutdatedCost() {
+    userRepository.insert(UUID.randomUUID(), "katedoe@test.in", new BCryptPasswordEncoder(4).encode("Kate@24"), Instant.now()).block();
+
+    webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto("katedoe@test.in", "Kate@24"))
+      .exchange()
+      .expectStatus().isOk();
+
+    Assertions.assertThat(userRepository.findByEmail("katedoe@test.in").block().password()).startsWith("$2a$10$");
+  }
+
+  AuthResponseDto refresh(String refreshToken) {
+    return webTestClient.post().uri("/todo-api/v1/auth/refresh")
+      .bodyValue(new RefreshRequestDto(refreshToken))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody();
+  }
+
+  @Test
+  void should_RotateRefreshToken_AndRevokeFamily_OnReuse() {
+    AuthResponseDto login = webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto("jhondoe@test.in", "Jhon@24"))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody();
+
+    AuthResponseDto refreshed = refresh(login.refreshToken());
+    Assertions.assertThat(refreshed.username()).isEqualTo("jhondoe@test.in");
+    Assertions.assertThat(refreshed.refreshToken()).isNotEqualTo(login.refreshToken());
+
+    webTestClient.get().uri("/todo-api/v1/todo")
+      .headers(headers -> headers.setBearerAuth(refreshed.authToken()))
+      .exchange()
+      .expectStatus().isOk();
+
+    webTestClient.post().uri("/todo-api/v1/auth/refresh")
+      .bodyValue(new RefreshRequestDto(login.refreshToken()))
+      .exchange()
+      .expectStatus().isUnauthorized();
+
+    webTestClient.post().uri("/todo-api/v1/auth/refresh")
+      .bodyValue(new RefreshRequestDto(refreshed.refreshToken()))
+      .exchange()
+      .expectStatus().isUnauthorized();
+  }
+
+  @Test
+  void should_RejectTokens_AfterLogout() {
+    AuthResponseDto login = webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto("jhondoe@test.in", "Jhon@24"))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody();
+
+    webTestClient.post().uri("/todo-api/v1/auth/logout")
+      .headers(headers -> headers.setBearerAuth(login.authToken()))
+      .bodyValue(new RefreshRequestDto(login.refreshToken()))
+      .exchange()
+      .expectStatus().isNoContent();
+
+    webTestClient.get().uri("/todo-api/v1/todo")
+      .headers(headers -> headers.setBearerAuth(login.authToken()))
+      .exchange()
+      .expectStatus().isUnauthorized();
+
+    webTestClient.post().uri("/todo-api/v1/auth/refresh")
+      .bodyValue(new RefreshRequestDto(login.refreshToken()))
+      .exchange()
+      .expectStatus().isUnauthorized();
+  }
+
+  @Test
+  void should_RejectRefreshToken_AfterRevoke() {
+    AuthResponseDto login = webTestClient.post().uri("/todo-api/v1/auth/login")
+      .bodyValue(new AuthRequestDto("jhondoe@test.in", "Jhon@24"))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(AuthResponseDto.class)
+      .returnResult().getResponseBody();
+
+    webTestClient.post().uri("/todo-api/v1/auth/revoke")
+      .bodyValue(new RefreshRequestDto(login.refreshToken()))
+      .exchange()
+      .expectStatus().isNoContent();
+
+    webTestClient.post().uri("/todo-api/v1/auth/refresh")
+      .bodyValue(new RefreshRequestDto(login.refreshToken()))
+      .exchange()
+      .expectStatus().isUnauthorized();
+  }
+
+  @Test
+  void should_RejectRequests_WithoutValidToken() {
+    webTestClient.get().uri("/todo-api/v1/todo")
+      .exchange()
+      .expectStatus().isForbidden();
+
+    webTestClient.get().uri("/todo-api/v1/todo")
+      .headers(headers -> headers.setBearerAuth("not-a-token"))
+      .exchange()
+      .expectStatus().isUnauthorized()
+      .expectBody(ExceptionDto.class)
+      .value(exception -> Assertions.assertThat(exception.error()).isEqualTo("Jwt Forbidden"));
+  }
+
+  @Test
+  void should_ReturnPagesOfTodos_ForUser() {
+    String token = authenticate();
+    for (String title : List.of("first todo", "second todo", "third todo")) {
+      addTodo(token, title);
+    }
+
+    TodoPageDto firstPage = webTestClient.get().uri("/todo-api/v1/todo?limit=2")
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoPageDto.class)
+      .returnResult().getResponseBody();
+
+    Assertions.assertThat(firstPage.todos()).extracting(TodoResponseDto::title).containsExactly("first todo", "second todo");
+    Assertions.assertThat(firstPage.nextCursor()).isNotNull();
+
+    TodoPageDto lastPage = webTestClient.get().uri("/todo-api/v1/todo?limit=2&cursor={cursor}", firstPage.nextCursor())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoPageDto.class)
+      .returnResult().getResponseBody();
+
+    Assertions.assertThat(lastPage.todos()).extracting(TodoResponseDto::title).containsExactly("third todo");
+    Assertions.assertThat(lastPage.nextCursor()).isNull();
+
+    webTestClient.get().uri("/todo-api/v1/todo?unpaged=true&fields=title")
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.length()").isEqualTo(3)
+      .jsonPath("$[0].title").isEqualTo("first todo")
+      .jsonPath("$[0].uuid").doesNotExist();
+  }
+
+  @Test
+  void should_ReturnNotModified_ForUnchangedTodo() {
+    String token = authenticate();
+    TodoResponseDto todo = addTodo(token, "demo todo by user");
+
+    String eTag = webTestClient.get().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().cacheControl(CacheControl.noCache().cachePrivate())
+      .returnResult(TodoResponseDto.class).getResponseHeaders().getETag();
+
+    webTestClient.get().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> {
+        headers.setBearerAuth(token);
+        headers.setIfNoneMatch(eTag);
+      })
+      .exchange()
+      .expectStatus().isNotModified();
+  }
+
+  @Test
+  void should_ReturnPreconditionFailed_ForStaleIfMatch() {
+    String token = authenticate();
+    TodoResponseDto todo = addTodo(token, "demo todo by user");
+
+    String eTag = webTestClient.get().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .returnResult(TodoResponseDto.class).getResponseHeaders().getETag();
+
+    webTestClient.put().uri("/todo-api/v1/todo/{id}/status/{status}", todo.uuid(), Status.COMPLETED)
+      .headers(headers -> {
+        headers.setBearerAuth(token);
+        headers.setIfMatch(eTag);
+      })
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoResponseDto.class)
+      .value(updated -> Assertions.assertThat(updated.status()).isEqualTo(Status.COMPLETED));
+
+    webTestClient.put().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> {
+        headers.setBearerAuth(token);
+        headers.setIfMatch(eTag);
+      })
+      .bodyValue(new TodoRequestDto("stale title"))
+      .exchange()
+      .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+  }
+
+  @Test
+  void should_NotReturnTodo_OfOtherUser() {
+    String token = authenticate();
+    String otherToken = authenticateOther();
+    TodoResponseDto todo = addTodo(token, "demo todo by user");
+
+    webTestClient.get().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(otherToken))
+      .exchange()
+      .expectStatus().isBadRequest();
+
+    webTestClient.get().uri("/todo-api/v1/todo/{id}?fields=title", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(otherToken))
+      .exchange()
+      .expectStatus().isBadRequest();
+  }
+
+  @Test
+  void should_NotModify_OtherUsersTodo() {
+    String token = authenticate();
+    String otherToken = authenticateOther();
+    TodoResponseDto todo = addTodo(token, "demo todo by user");
+
+    webTestClient.put().uri("/todo-api/v1/todo/{id}/status/{status}", todo.uuid(), Status.COMPLETED)
+      .headers(headers -> headers.setBearerAuth(otherToken))
+      .exchange()
+      .expectStatus().isBadRequest();
+
+    webTestClient.put().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(otherToken))
+      .bodyValue(new TodoRequestDto("taken over"))
+      .exchange()
+      .expectStatus().isBadRequest();
+
+    webTestClient.delete().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(otherToken))
+      .exchange()
+      .expectStatus().isBadRequest();
+
+    webTestClient.get().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoResponseDto.class)
+      .value(current -> {
+        Assertions.assertThat(current.status()).isEqualTo(Status.PENDING);
+        Assertions.assertThat(current.title()).isEqualTo("demo todo by user");
+      });
+  }
+
+  @Test
+  void should_CreateUpdateFetchAndDeleteTodos_InBatch() {
+    String token = authenticate();
+    String missing = UUID.randomUUID().toString();
+
+    TodoBatchResponseDto created = webTestClient.post().uri("/todo-api/v1/todo/batch")
+      .headers(headers -> headers.setBearerAuth(token))
+      .bodyValue(List.of(new TodoRequestDto("first todo"), new TodoRequestDto("second todo")))
+      .exchange()
+      .expectStatus().isCreated()
+      .expectBody(TodoBatchResponseDto.class)
+      .returnResult().getResponseBody();
+
+    Assertions.assertThat(created.results()).extracting(item -> item.todo().title()).containsExactly("first todo", "second todo");
+    String first = created.results().get(0).uuid();
+
+    webTestClient.put().uri("/todo-api/v1/todo/batch/status/{status}", Status.COMPLETED)
+      .headers(headers -> headers.setBearerAuth(token))
+      .bodyValue(List.of(first, missing))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoBatchResponseDto.class)
+      .value(response -> Assertions.assertThat(response.results()).extracting(item -> item.result()).containsExactly(TodoBatchResult.UPDATED, TodoBatchResult.NOT_FOUND));
+
+    webTestClient.delete().uri("/todo-api/v1/todo/batch?ids={first},{missing}", first, missing)
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(TodoBatchResponseDto.class)
+      .value(response -> Assertions.assertThat(response.results()).extracting(item -> item.result()).containsExactly(TodoBatchResult.DELETED, TodoBatchResult.NOT_FOUND));
+
+    webTestClient.get().uri("/todo-api/v1/todo/{id}", first)
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isBadRequest();
+  }
+
+  @Test
+  void should_ImportAndExportTodos_AsNdjson() {
+    String token = authenticate();
+
+    webTestClient.post().uri("/todo-api/v1/todo/import")
+      .headers(headers -> headers.setBearerAuth(token))
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .bodyValue("{\"title\":\"first todo\"}\n\n{\"title\":\"second todo\",\"status\":\"COMPLETED\"}\n")
+      .exchange()
+      .expectStatus().isCreated()
+      .expectBody(TodoImportResponseDto.class)
+      .value(response -> Assertions.assertThat(response.imported()).isEqualTo(2L));
+
+    webTestClient.post().uri("/todo-api/v1/todo/import")
+      .headers(headers -> headers.setBearerAuth(token))
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .bodyValue("{\"title\":\"third todo\"}\n{\"title\":\" \"}\n")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody(ExceptionDto.class)
+      .value(exception -> Assertions.assertThat(exception.message()).isEqualTo("Line 2 has a blank title"));
+
+    List<TodoResponseDto> exported = webTestClient.get().uri("/todo-api/v1/todo/export")
+      .headers(headers -> headers.setBearerAuth(token))
+      .accept(MediaType.APPLICATION_NDJSON)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+      .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"")
+      .returnResult(TodoResponseDto.class).getResponseBody().collectList().block();
+
+    Assertions.assertThat(exported).extracting(TodoResponseDto::title).containsExactly("first todo", "second todo");
+    Assertions.assertThat(exported).extracting(TodoResponseDto::status).containsExactly(Status.PENDING, Status.COMPLETED);
+  }
+
+  @Test
+  void should_DeleteTodo_ForId() {
+    String token = authenticate();
+    TodoResponseDto todo = addTodo(token, "demo todo by user");
+
+    webTestClient.delete().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isOk();
+
+    webTestClient.delete().uri("/todo-api/v1/todo/{id}", todo.uuid())
+      .headers(headers -> headers.setBearerAuth(token))
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody(ExceptionDto.class)
+      .value(exception -> Assertions.assertThat(exception.error()).isEqualTo("Todo Not Found"));
+  }
+}
@@ -1,15 +1,98 @@
 package com.example.todo.shared;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class UuidGeneratorTest {
-  private UuidGenerator uuidGenerator = new UuidGenerator();
+  private UuidGenerator uuidGenerator = new UuidGenerator(7);
 
   @Test
   void return_UuidAsString() {
-    String uuid = uuidGenerator.randomUUID();
+    String uuid = uuidGenerator.randomUUID().toString();
     Assertions.assertThat(uuid).isNotNull();
     Assertions.assertThat(uuid.length()).isGreaterThan(0);
   }
+
+  @Test
+  void return_RandomUuid_ForVersion4() {
+    UUID uuid = new UuidGenerator(4).randomUUID();
+    Assertions.assertThat(uuid.version()).isEqualTo(4);
+  }
+
+  @Test
+  void return_TimeOrderedUuid_ForVersion7() {
+    long before = System.currentTimeMillis();
+    UUID uuid = uuidGenerator.randomUUID();
+
+    Assertions.assertThat(uuid.version()).isEqualTo(7);
+    Assertions.assertThat(uuid.variant()).isEqualTo(2);
+    Assertions.assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+  }
+
+  @Test
+  void return_IncreasingUuids_WithinSameMillisecond() {
+    List<UUID> uuids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      uuids.add(uuidGenerator.randomUUID());
+    }
+
+    Assertions.assertThat(uuids).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  void return_UniqueUuids_AcrossThreads() throws Exception {
+    int threads = 8;
+    int perThread = 50_000;
+    Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            uuids.add(uuidGenerator.randomUUID());
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertThat(uuids).hasSize(threads * perThread);
+  }
+
+  @Test
+  void parse_ValidUuid_AndRejectMalformedInput() {
+    UUID uuid = uuidGenerator.randomUUID();
+
+    Assertions.assertThat(UuidGenerator.parse(uuid.toString())).contains(uuid);
+    Assertions.assertThat(UuidGenerator.parse("not-a-uuid")).isEmpty();
+    Assertions.assertThat(UuidGenerator.parse(null)).isEmpty();
+  }
+
+  @Test
+  void throws_IllegalArgumentException_ForUnknownVersion() {
+    Assertions.assertThatThrownBy(() -> new UuidGenerator(5))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("uuid.version must be 4 or 7, got 5");
+  }
 }
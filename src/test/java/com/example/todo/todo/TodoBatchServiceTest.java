@@ -0,0 +1,139 @@
+package com.example.todo.todo;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo.auth.AuthService;
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+import com.example.todo.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoBatchServiceTest {
+  @Mock
+  private TodoRepository todoRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private UuidGenerator uuidGenerator;
+
+  @Mock
+  private TodoDtoMapper todoDtoMapper;
+
+  @Captor
+  private ArgumentCaptor<List<Todo>> todosCaptor;
+
+  private TodoBatchService todoBatchService;
+
+  private final UUID firstUuid = UUID.randomUUID();
+  private final UUID secondUuid = UUID.randomUUID();
+  private final UUID missingUuid = UUID.randomUUID();
+
+  private User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+
+  @BeforeEach
+  void setup() {
+    this.todoBatchService = new TodoBatchService(todoRepository, userRepository, authService, uuidGenerator, todoDtoMapper);
+  }
+
+  private Todo todo(UUID uuid) {
+    return Todo.builder()
+      .id(101L)
+      .title("demo todo item in the list")
+      .status(Status.PENDING)
+      .uuid(uuid)
+      .build();
+  }
+
+  @Test
+  void saves_AllTodos_InSingleCall() {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+    when(uuidGenerator.randomUUID()).thenReturn(firstUuid, secondUuid);
+    when(todoRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    TodoBatchResponseDto response = todoBatchService.addTodos(List.of(new TodoRequestDto("first todo"), new TodoRequestDto("second todo")));
+
+    verify(todoRepository, times(1)).saveAll(todosCaptor.capture());
+    Assertions.assertThat(todosCaptor.getValue()).extracting(Todo::getTitle).containsExactly("first todo", "second todo");
+    Assertions.assertThat(response.results()).extracting(TodoBatchItemDto::uuid).containsExactly(firstUuid.toString(), secondUuid.toString());
+    Assertions.assertThat(response.results()).extracting(TodoBatchItemDto::result).containsOnly(TodoBatchResult.CREATED);
+  }
+
+  @Test
+  void returns_NotFound_ForMissingTodos() {
+    Todo todo = todo(firstUuid);
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.findByUserIdAndUuidIn(user.getId(), List.of(firstUuid, missingUuid))).thenReturn(List.of(todo));
+
+    TodoBatchResponseDto response = todoBatchService.update(List.of(firstUuid.toString(), missingUuid.toString(), firstUuid.toString().toUpperCase(), "not-a-uuid"), Status.COMPLETED);
+
+    Assertions.assertThat(todo.getStatus()).isEqualTo(Status.COMPLETED);
+    Assertions.assertThat(response.results()).extracting(TodoBatchItemDto::result).containsExactly(TodoBatchResult.UPDATED, TodoBatchResult.NOT_FOUND, TodoBatchResult.NOT_FOUND);
+    verify(todoRepository, times(1)).flush();
+  }
+
+  @Test
+  void deletes_FoundTodos_InBatch() {
+    Todo todo = todo(firstUuid);
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.findByUserIdAndUuidIn(user.getId(), List.of(firstUuid))).thenReturn(List.of(todo));
+
+    TodoBatchResponseDto response = todoBatchService.delete(List.of(firstUuid.toString()));
+
+    verify(todoRepository, times(1)).deleteAllInBatch(anyIterable());
+    Assertions.assertThat(response.results()).extracting(TodoBatchItemDto::result).containsExactly(TodoBatchResult.DELETED);
+  }
+
+  @Test
+  void skips_Delete_WhenNoTodoFound() {
+    TodoBatchResponseDto response = todoBatchService.delete(List.of("not-a-uuid"));
+
+    verify(todoRepository, never()).findByUserIdAndUuidIn(anyLong(), anyCollection());
+    verify(todoRepository, never()).deleteAllInBatch(anyIterable());
+    Assertions.assertThat(response.results()).extracting(TodoBatchItemDto::result).containsExactly(TodoBatchResult.NOT_FOUND);
+  }
+
+  @Test
+  void throws_TodoException_ForInvalidBatch() {
+    Assertions.assertThatThrownBy(() -> todoBatchService.getTodos(List.of()))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Batch cannot be empty");
+
+    Assertions.assertThatThrownBy(() -> todoBatchService.getTodos(Collections.nCopies(TodoBatchService.MAX_BATCH_SIZE + 1, "uuid")))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Batch cannot contain more than 500 items");
+
+    Assertions.assertThatThrownBy(() -> todoBatchService.addTodos(List.of(new TodoRequestDto(" "))))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("title cannot be blank");
+  }
+}
@@ -1,21 +1,29 @@
 package com.example.todo.todo;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
@@ -26,12 +34,15 @@ import org.testcontainers.utility.DockerImageName;
 
 import com.example.todo.auth.AuthRequestDto;
 import com.example.todo.auth.AuthResponseDto;
+import com.example.todo.datasource.SqlCountFilter;
 import com.example.todo.user.User;
 import com.example.todo.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @Testcontainers
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@TestPropertySource(properties = {"spring.jpa.show-sql=false"})
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(properties = {"spring.jpa.show-sql=false", "sql.count-header=true", "tracing.slow-request-threshold-ms=1"})
 public class TodoControllerTest {
   @Container
   @ServiceConnection
@@ -49,9 +60,12 @@ public class TodoControllerTest {
   @Autowired
   private TestRestTemplate testRestTemplate;
 
+  @LocalManagementPort
+  private int managementPort;
+
   @BeforeEach
   void setup() {
-    String uuid = UUID.randomUUID().toString();
+    UUID uuid = UUID.randomUUID();
     User user = User.builder()
       .uuid(uuid)
       .email("jhondoe@test.in")
@@ -74,7 +88,19 @@ public class TodoControllerTest {
   }
 
   AuthResponseDto authenticate() {
-    AuthRequestDto loginRequest = new AuthRequestDto("jhondoe@test.in", "Jhon@24");
+    return authenticate("jhondoe@test.in", "Jhon@24");
+  }
+
+  /** Signs in as a second user, created on first use. */
+  AuthResponseDto authenticateOther() {
+    if (userRepository.findByEmail("katedoe@test.in").isEmpty()) {
+      userRepository.save(User.builder().uuid(UUID.randomUUID()).email("katedoe@test.in").password(passwordEncoder.encode("Kate@24")).build());
+    }
+    return authenticate("katedoe@test.in", "Kate@24");
+  }
+
+  AuthResponseDto authenticate(String email, String password) {
+    AuthRequestDto loginRequest = new AuthRequestDto(email, password);
     ResponseEntity<AuthResponseDto> authResponse = testRestTemplate.exchange(
       "/todo-api/v1/auth/login",
       HttpMethod.POST, 
@@ -113,7 +139,7 @@ public class TodoControllerTest {
     httpHeaders.setBearerAuth(authResponse.authToken());
 
     ResponseEntity<List<TodoResponseDto>> response = testRestTemplate.exchange(
-      "/todo-api/v1/todo",
+      "/todo-api/v1/todo?unpaged=true",
       HttpMethod.GET, 
       new HttpEntity<>(httpHeaders), 
       new ParameterizedTypeReference<List<TodoResponseDto>>(){}
@@ -122,6 +148,170 @@ public class TodoControllerTest {
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
 
+  @Test
+  void should_ReturnPagesOfTodos_ForUser() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    for (String title : List.of("first todo", "second todo", "third todo")) {
+      testRestTemplate.exchange(
+        "/todo-api/v1/todo",
+        HttpMethod.POST,
+        new HttpEntity<>(new TodoRequestDto(title), httpHeaders),
+        TodoResponseDto.class
+      );
+    }
+
+    ResponseEntity<TodoPageDto> firstPage = testRestTemplate.exchange(
+      "/todo-api/v1/todo?limit=2&sort=desc",
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      TodoPageDto.class
+    );
+
+    Assertions.assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(firstPage.getBody().todos()).extracting(TodoResponseDto::title).containsExactly("third todo", "second todo");
+    Assertions.assertThat(firstPage.getBody().nextCursor()).isNotNull();
+
+    ResponseEntity<TodoPageDto> secondPage = testRestTemplate.exchange(
+      "/todo-api/v1/todo?limit=2&sort=desc&cursor=" + firstPage.getBody().nextCursor(),
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      TodoPageDto.class
+    );
+
+    Assertions.assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(secondPage.getBody().todos()).extracting(TodoResponseDto::title).containsExactly("first todo");
+    Assertions.assertThat(secondPage.getBody().nextCursor()).isNull();
+  }
+
+  @Test
+  void should_ImportAndExportTodos_AsNdjson() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+    httpHeaders.setContentType(MediaType.APPLICATION_NDJSON);
+
+    String body = "{\"title\":\"imported todo\"}\n{\"title\":\"done todo\",\"status\":\"COMPLETED\"}\n";
+    ResponseEntity<TodoImportResponseDto> importResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo/import",
+      HttpMethod.POST,
+      new HttpEntity<>(body, httpHeaders),
+      TodoImportResponseDto.class
+    );
+
+    Assertions.assertThat(importResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(importResponse.getBody().imported()).isEqualTo(2);
+    Assertions.assertThat(importResponse.getBody().failedLine()).isNull();
+
+    ResponseEntity<String> exportResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo/export",
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      String.class
+    );
+
+    Assertions.assertThat(exportResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(exportResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+    Assertions.assertThat(exportResponse.getBody().lines().toList())
+      .hasSize(2)
+      .anySatisfy(line -> Assertions.assertThat(line).contains("\"title\":\"done todo\"").contains("\"status\":\"COMPLETED\""));
+  }
+
+  @Test
+  void should_ReportFailedLine_WhenImportStopsPartway() {
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authenticate().authToken());
+    httpHeaders.setContentType(MediaType.APPLICATION_NDJSON);
+
+    String body = "{\"title\":\"imported todo\"}\n{\"title\":\"\"}\n{\"title\":\"not imported todo\"}\n";
+    ResponseEntity<TodoImportResponseDto> importResponse = testRestTemplate.exchange("/todo-api/v1/todo/import", HttpMethod.POST, new HttpEntity<>(body, httpHeaders), TodoImportResponseDto.class);
+
+    Assertions.assertThat(importResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(importResponse.getBody()).isEqualTo(new TodoImportResponseDto(1L, 2L, "Line 2 has a blank title"));
+    Assertions.assertThat(todoRepository.findAll()).extracting(Todo::getTitle).containsExactly("imported todo");
+  }
+
+  @Test
+  void should_CreateUpdateFetchAndDeleteTodos_InBatch() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoBatchResponseDto> created = testRestTemplate.exchange(
+      "/todo-api/v1/todo/batch",
+      HttpMethod.POST,
+      new HttpEntity<>(List.of(new TodoRequestDto("first todo"), new TodoRequestDto("second todo")), httpHeaders),
+      TodoBatchResponseDto.class
+    );
+
+    Assertions.assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(created.getBody().results()).extracting(TodoBatchItemDto::result).containsOnly(TodoBatchResult.CREATED);
+
+    List<String> ids = created.getBody().results().stream().map(TodoBatchItemDto::uuid).toList();
+    ResponseEntity<TodoBatchResponseDto> updated = testRestTemplate.exchange(
+      "/todo-api/v1/todo/batch/status/COMPLETED",
+      HttpMethod.PUT,
+      new HttpEntity<>(List.of(ids.get(0), "unknown-uuid"), httpHeaders),
+      TodoBatchResponseDto.class
+    );
+
+    Assertions.assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(updated.getBody().results()).extracting(TodoBatchItemDto::result).containsExactly(TodoBatchResult.UPDATED, TodoBatchResult.NOT_FOUND);
+    Assertions.assertThat(updated.getBody().results().get(0).todo().status()).isEqualTo(Status.COMPLETED);
+
+    ResponseEntity<TodoBatchResponseDto> fetched = testRestTemplate.exchange(
+      "/todo-api/v1/todo/batch?ids=" + String.join(",", ids),
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      TodoBatchResponseDto.class
+    );
+
+    Assertions.assertThat(fetched.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(fetched.getBody().results()).extracting(item -> item.todo().status()).containsExactly(Status.COMPLETED, Status.PENDING);
+
+    ResponseEntity<TodoBatchResponseDto> deleted = testRestTemplate.exchange(
+      "/todo-api/v1/todo/batch?ids=" + String.join(",", ids),
+      HttpMethod.DELETE,
+      new HttpEntity<>(httpHeaders),
+      TodoBatchResponseDto.class
+    );
+
+    Assertions.assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(deleted.getBody().results()).extracting(TodoBatchItemDto::result).containsOnly(TodoBatchResult.DELETED);
+    Assertions.assertThat(todoRepository.count()).isEqualTo(0);
+  }
+
+  @Test
+  void should_TransitionTodos_ByStatus() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    testRestTemplate.exchange(
+      "/todo-api/v1/todo/batch",
+      HttpMethod.POST,
+      new HttpEntity<>(List.of(new TodoRequestDto("first todo"), new TodoRequestDto("second todo")), httpHeaders),
+      TodoBatchResponseDto.class
+    );
+
+    ResponseEntity<TodoTransitionResponseDto> response = testRestTemplate.exchange(
+      "/todo-api/v1/todo/status",
+      HttpMethod.PUT,
+      new HttpEntity<>(new TodoTransitionRequestDto(Status.PENDING, Status.COMPLETED, null), httpHeaders),
+      TodoTransitionResponseDto.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody().updated()).isEqualTo(2);
+    Assertions.assertThat(todoRepository.findAll()).extracting(Todo::getStatus).containsOnly(Status.COMPLETED);
+  }
+
   @Test
   void should_ReturnTodo_ForId() {
     AuthResponseDto authResponse = authenticate();
@@ -148,6 +338,272 @@ public class TodoControllerTest {
     Assertions.assertThat(response.getBody().title()).isEqualTo(todoResponse.getBody().title());
   }
 
+  @Test
+  void should_NotReturnTodo_OfOtherUser() {
+    HttpHeaders owner = new HttpHeaders();
+    owner.setBearerAuth(authenticate().authToken());
+    HttpHeaders other = new HttpHeaders();
+    other.setBearerAuth(authenticateOther().authToken());
+
+    TodoResponseDto created = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.POST, new HttpEntity<>(new TodoRequestDto("demo todo by user"), owner), TodoResponseDto.class).getBody();
+    String url = "/todo-api/v1/todo/" + created.uuid();
+    String eTag = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(owner), String.class).getHeaders().getETag();
+
+    Assertions.assertThat(testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(other), String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    Assertions.assertThat(testRestTemplate.exchange(url + "?fields=title", HttpMethod.GET, new HttpEntity<>(other), String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+    other.setIfNoneMatch(eTag);
+    Assertions.assertThat(testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(other), String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void should_ReturnNotModified_ForUnchangedTodos() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoResponseDto> todoResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders),
+      TodoResponseDto.class
+    );
+
+    ResponseEntity<TodoPageDto> page = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoPageDto.class);
+    ResponseEntity<TodoResponseDto> todo = testRestTemplate.exchange("/todo-api/v1/todo/" + todoResponse.getBody().uuid(), HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class);
+
+    Assertions.assertThat(page.getHeaders().getETag()).isNotNull();
+    Assertions.assertThat(page.getHeaders().getLastModified()).isGreaterThan(0);
+    Assertions.assertThat(page.getHeaders().getCacheControl()).contains("no-cache");
+    Assertions.assertThat(todo.getHeaders().getETag()).isNotNull();
+
+    HttpHeaders pageConditional = new HttpHeaders();
+    pageConditional.setBearerAuth(authResponse.authToken());
+    pageConditional.setIfNoneMatch(page.getHeaders().getETag());
+    HttpHeaders todoConditional = new HttpHeaders();
+    todoConditional.setBearerAuth(authResponse.authToken());
+    todoConditional.setIfNoneMatch(todo.getHeaders().getETag());
+
+    ResponseEntity<String> unchangedPage = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.GET, new HttpEntity<>(pageConditional), String.class);
+    ResponseEntity<String> unchangedTodo = testRestTemplate.exchange("/todo-api/v1/todo/" + todoResponse.getBody().uuid(), HttpMethod.GET, new HttpEntity<>(todoConditional), String.class);
+
+    Assertions.assertThat(unchangedPage.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(unchangedPage.getBody()).isNull();
+    Assertions.assertThat(unchangedTodo.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+    ResponseEntity<String> otherFields = testRestTemplate.exchange("/todo-api/v1/todo?fields=title", HttpMethod.GET, new HttpEntity<>(pageConditional), String.class);
+    Assertions.assertThat(otherFields.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    testRestTemplate.exchange(
+      "/todo-api/v1/todo/" + todoResponse.getBody().uuid() + "/status/" + Status.COMPLETED,
+      HttpMethod.PUT,
+      new HttpEntity<>(httpHeaders),
+      TodoResponseDto.class
+    );
+
+    ResponseEntity<TodoPageDto> changedPage = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.GET, new HttpEntity<>(pageConditional), TodoPageDto.class);
+    ResponseEntity<TodoResponseDto> changedTodo = testRestTemplate.exchange("/todo-api/v1/todo/" + todoResponse.getBody().uuid(), HttpMethod.GET, new HttpEntity<>(todoConditional), TodoResponseDto.class);
+
+    Assertions.assertThat(changedPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(changedPage.getHeaders().getETag()).isNotEqualTo(page.getHeaders().getETag());
+    Assertions.assertThat(changedTodo.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(changedTodo.getBody().status()).isEqualTo(Status.COMPLETED);
+  }
+
+  @Test
+  void should_ReturnPreconditionFailed_ForStaleIfMatch() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoResponseDto> todoResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders),
+      TodoResponseDto.class
+    );
+    String url = "/todo-api/v1/todo/" + todoResponse.getBody().uuid();
+    String eTag = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class).getHeaders().getETag();
+
+    HttpHeaders conditional = new HttpHeaders();
+    conditional.setBearerAuth(authResponse.authToken());
+    conditional.setIfMatch(eTag);
+
+    ResponseEntity<TodoResponseDto> updated = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto("first edit"), conditional), TodoResponseDto.class);
+    ResponseEntity<String> stale = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto("second edit"), conditional), String.class);
+    ResponseEntity<String> staleStatus = testRestTemplate.exchange(url + "/status/" + Status.COMPLETED, HttpMethod.PUT, new HttpEntity<>(conditional), String.class);
+
+    Assertions.assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    Assertions.assertThat(staleStatus.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+    ResponseEntity<TodoResponseDto> current = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class);
+    Assertions.assertThat(current.getBody().title()).isEqualTo("first edit");
+    Assertions.assertThat(current.getBody().status()).isEqualTo(Status.PENDING);
+    Assertions.assertThat(current.getHeaders().getETag()).isNotEqualTo(eTag);
+  }
+
+  @Test
+  void should_ReturnPreconditionFailed_ForCollectionETagAsIfMatch() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    // Taken while the list is empty, so it carries version 0 just like the todo created next.
+    String listETag = testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class).getHeaders().getETag();
+
+    ResponseEntity<TodoResponseDto> todoResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders),
+      TodoResponseDto.class
+    );
+    String url = "/todo-api/v1/todo/" + todoResponse.getBody().uuid();
+
+    HttpHeaders conditional = new HttpHeaders();
+    conditional.setBearerAuth(authResponse.authToken());
+    conditional.setIfMatch(listETag);
+
+    ResponseEntity<String> updated = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto("edit"), conditional), String.class);
+    ResponseEntity<String> statusChanged = testRestTemplate.exchange(url + "/status/" + Status.COMPLETED, HttpMethod.PUT, new HttpEntity<>(conditional), String.class);
+
+    Assertions.assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    Assertions.assertThat(statusChanged.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+    ResponseEntity<TodoResponseDto> current = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class);
+    Assertions.assertThat(current.getBody().title()).isEqualTo("demo todo by user");
+    Assertions.assertThat(current.getBody().status()).isEqualTo(Status.PENDING);
+  }
+
+  @Test
+  void should_IssueDifferentListETags_ForUsersAtSameVersion() {
+    HttpHeaders owner = new HttpHeaders();
+    owner.setBearerAuth(authenticate().authToken());
+    HttpHeaders other = new HttpHeaders();
+    other.setBearerAuth(authenticateOther().authToken());
+
+    String ownerETag = testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(owner), String.class).getHeaders().getETag();
+
+    other.setIfNoneMatch(ownerETag);
+    ResponseEntity<String> otherList = testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(other), String.class);
+
+    Assertions.assertThat(otherList.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(otherList.getHeaders().getETag()).isNotEqualTo(ownerETag);
+  }
+
+  @Test
+  void should_NotLoseUpdates_ForConcurrentIfMatchWrites() throws Exception {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoResponseDto> todoResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoRequestDto("0"), httpHeaders),
+      TodoResponseDto.class
+    );
+    String url = "/todo-api/v1/todo/" + todoResponse.getBody().uuid();
+
+    int writers = 8;
+    int incrementsPerWriter = 10;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+    // Every writer increments the counter kept in the title, re-reading and retrying whenever its ETag went stale.
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < writers; i++) {
+      results.add(executor.submit(() -> {
+        int applied = 0;
+        while (applied < incrementsPerWriter) {
+          ResponseEntity<TodoResponseDto> current = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class);
+
+          HttpHeaders conditional = new HttpHeaders();
+          conditional.setBearerAuth(authResponse.authToken());
+          conditional.setIfMatch(current.getHeaders().getETag());
+
+          String next = String.valueOf(Integer.parseInt(current.getBody().title()) + 1);
+          ResponseEntity<String> response = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto(next), conditional), String.class);
+
+          if (response.getStatusCode() == HttpStatus.OK) {
+            applied++;
+          } else {
+            Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+          }
+        }
+        return applied;
+      }));
+    }
+
+    int applied = 0;
+    for (Future<Integer> result : results) {
+      applied += result.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    ResponseEntity<TodoResponseDto> todo = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(httpHeaders), TodoResponseDto.class);
+
+    Assertions.assertThat(applied).isEqualTo(writers * incrementsPerWriter);
+    Assertions.assertThat(todo.getBody().title()).isEqualTo(String.valueOf(writers * incrementsPerWriter));
+    Assertions.assertThat(todo.getHeaders().getETag()).startsWith(String.format("\"t%x-", writers * incrementsPerWriter));
+  }
+
+  @Test
+  void should_ReturnSelectedFields_ForSparseFieldset() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoResponseDto> todoResponse = testRestTemplate.exchange(
+      "/todo-api/v1/todo",
+      HttpMethod.POST,
+      new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders),
+      TodoResponseDto.class
+    );
+
+    ResponseEntity<String> todo = testRestTemplate.exchange(
+      "/todo-api/v1/todo/" + todoResponse.getBody().uuid() + "?fields=title,status",
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      String.class
+    );
+
+    Assertions.assertThat(todo.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(todo.getBody()).isEqualTo("{\"title\":\"demo todo by user\",\"status\":\"PENDING\"}");
+
+    ResponseEntity<JsonNode> full = testRestTemplate.exchange(
+      "/todo-api/v1/todo/" + todoResponse.getBody().uuid(),
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      JsonNode.class
+    );
+
+    Assertions.assertThat(full.getBody().fieldNames()).toIterable().containsExactly("uuid", "title", "status", "createdAt", "updatedAt");
+
+    ResponseEntity<TodoPageDto> page = testRestTemplate.exchange(
+      "/todo-api/v1/todo?fields=uuid",
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      TodoPageDto.class
+    );
+
+    Assertions.assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(page.getBody().todos()).containsExactly(new TodoResponseDto(todoResponse.getBody().uuid(), null, null, null, null));
+
+    ResponseEntity<String> invalid = testRestTemplate.exchange(
+      "/todo-api/v1/todo?unpaged=true&fields=password",
+      HttpMethod.GET,
+      new HttpEntity<>(httpHeaders),
+      String.class
+    );
+
+    Assertions.assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void should_ReturnTodo_WithUpdatedStatus_ForId() {
     AuthResponseDto authResponse = authenticate();
@@ -176,6 +632,29 @@ public class TodoControllerTest {
     Assertions.assertThat(response.getBody().status()).isEqualTo(status);
   }
 
+  @Test
+  void should_NotModify_OtherUsersTodo() {
+    HttpHeaders owner = new HttpHeaders();
+    owner.setBearerAuth(authenticate().authToken());
+    HttpHeaders other = new HttpHeaders();
+    other.setBearerAuth(authenticateOther().authToken());
+
+    TodoResponseDto created = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.POST, new HttpEntity<>(new TodoRequestDto("demo todo by user"), owner), TodoResponseDto.class).getBody();
+    String url = "/todo-api/v1/todo/" + created.uuid();
+
+    ResponseEntity<String> status = testRestTemplate.exchange(url + "/status/" + Status.COMPLETED, HttpMethod.PUT, new HttpEntity<>(other), String.class);
+    ResponseEntity<String> title = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto("taken over"), other), String.class);
+    ResponseEntity<String> deleted = testRestTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(other), String.class);
+
+    Assertions.assertThat(status.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    Assertions.assertThat(title.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    Assertions.assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+    TodoResponseDto current = testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(owner), TodoResponseDto.class).getBody();
+    Assertions.assertThat(current.status()).isEqualTo(Status.PENDING);
+    Assertions.assertThat(current.title()).isEqualTo("demo todo by user");
+  }
+
   @Test
   void should_ReturnTodo_WithUpdatedTodo_ForId() {
     AuthResponseDto authResponse = authenticate();
@@ -231,4 +710,112 @@ public class TodoControllerTest {
 
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
+
+  @Test
+  void should_ExposeMetrics_ForPrometheus_WithoutToken() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+    testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+    testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+
+    ResponseEntity<String> response = testRestTemplate.getForEntity(actuator("/prometheus"), String.class);
+    ResponseEntity<String> publicPort = testRestTemplate.getForEntity("/actuator/prometheus", String.class);
+
+    Assertions.assertThat(publicPort.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody())
+      .contains("http_server_requests_seconds_bucket{application=\"todo\"")
+      .contains("uri=\"/todo-api/v1/todo\"")
+      .containsPattern("jwt_verify_seconds_count\\{[^}]*outcome=\"hit\"")
+      .containsPattern("jwt_verify_seconds_count\\{[^}]*outcome=\"miss\"")
+      .contains("password_hashing_seconds_bucket")
+      .contains("spring_data_repository_invocations_seconds_bucket")
+      .contains("hikaricp_connections_acquire_seconds_bucket")
+      .contains("hibernate_statements_total");
+  }
+
+  @Test
+  void should_BreakDownSlowRequests_ForAuthenticatedUser() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+    testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.POST, new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders), TodoResponseDto.class);
+
+    ResponseEntity<String> publicPort = testRestTemplate.exchange("/actuator/slowrequests", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+    ResponseEntity<String> anonymous = testRestTemplate.getForEntity(actuator("/slowrequests"), String.class);
+    ResponseEntity<JsonNode> response = testRestTemplate.exchange(actuator("/slowrequests"), HttpMethod.GET, new HttpEntity<>(httpHeaders), JsonNode.class);
+
+    Assertions.assertThat(publicPort.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    Assertions.assertThat(anonymous.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    JsonNode create = null;
+    for (JsonNode request : response.getBody().path("recent")) {
+      if (request.path("endpoint").asText().equals("POST /todo-api/v1/todo")) {
+        create = request;
+        break;
+      }
+    }
+    Assertions.assertThat(create).isNotNull();
+    Assertions.assertThat(create.path("status").asInt()).isEqualTo(201);
+    Assertions.assertThat(create.path("user").asText()).isEqualTo(userRepository.findByEmail("jhondoe@test.in").orElseThrow().getUuid().toString());
+    Assertions.assertThat(create.path("sqlStatements").asInt()).isPositive();
+    Assertions.assertThat(create.path("phaseMillis").has("AUTHENTICATION")).isTrue();
+    Assertions.assertThat(create.path("phaseMillis").has("SQL")).isTrue();
+    Assertions.assertThat(create.path("phaseMillis").has("SERIALIZATION")).isTrue();
+
+    JsonNode login = null;
+    for (JsonNode request : response.getBody().path("recent")) {
+      if (request.path("endpoint").asText().equals("POST /todo-api/v1/auth/login")) {
+        login = request;
+        break;
+      }
+    }
+    Assertions.assertThat(login).isNotNull();
+    Assertions.assertThat(login.path("phaseMillis").has("PASSWORD_HASHING")).isTrue();
+  }
+
+  private String actuator(String path) {
+    return "http://localhost:" + managementPort + "/actuator" + path;
+  }
+
+  private int sqlCount(ResponseEntity<?> response) {
+    return Integer.parseInt(response.getHeaders().getFirst(SqlCountFilter.HEADER));
+  }
+
+  @Test
+  void should_IssueFixedNumberOfQueries_PerEndpoint() {
+    AuthResponseDto authResponse = authenticate();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setBearerAuth(authResponse.authToken());
+
+    ResponseEntity<TodoResponseDto> created = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.POST, new HttpEntity<>(new TodoRequestDto("demo todo by user"), httpHeaders), TodoResponseDto.class);
+    testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.POST, new HttpEntity<>(new TodoRequestDto("second todo by user"), httpHeaders), TodoResponseDto.class);
+    UUID uuid = created.getBody().uuid();
+
+    ResponseEntity<String> page = testRestTemplate.exchange("/todo-api/v1/todo", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+    ResponseEntity<String> unpaged = testRestTemplate.exchange("/todo-api/v1/todo?unpaged=true", HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+    ResponseEntity<String> todo = testRestTemplate.exchange("/todo-api/v1/todo/" + uuid, HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+    ResponseEntity<String> status = testRestTemplate.exchange("/todo-api/v1/todo/" + uuid + "/status/COMPLETED", HttpMethod.PUT, new HttpEntity<>(httpHeaders), String.class);
+    ResponseEntity<String> title = testRestTemplate.exchange("/todo-api/v1/todo/" + uuid, HttpMethod.PUT, new HttpEntity<>(new TodoRequestDto("updated todo"), httpHeaders), String.class);
+    ResponseEntity<Void> deleted = testRestTemplate.exchange("/todo-api/v1/todo/" + uuid, HttpMethod.DELETE, new HttpEntity<>(httpHeaders), Void.class);
+
+    // The insert, plus a sequence call whenever the pooled optimizer needs a new block of 50 ids.
+    Assertions.assertThat(sqlCount(created)).isBetween(1, 2);
+    // Lists and single todos check their version for the ETag before reading.
+    Assertions.assertThat(sqlCount(page)).isEqualTo(2);
+    Assertions.assertThat(sqlCount(unpaged)).isEqualTo(2);
+    Assertions.assertThat(sqlCount(todo)).isEqualTo(2);
+    Assertions.assertThat(sqlCount(status)).isEqualTo(1);
+    Assertions.assertThat(sqlCount(title)).isEqualTo(2);
+    Assertions.assertThat(sqlCount(deleted)).isEqualTo(2);
+
+    Assertions.assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(userRepository.findByEmail("jhondoe@test.in")).isPresent();
+    Assertions.assertThat(todoRepository.count()).isEqualTo(1);
+  }
 }
@@ -0,0 +1,31 @@
+package com.example.todo.todo;
+
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.exception.TodoException;
+
+public class TodoCursorTest {
+  @Test
+  void decodes_EncodedCursor() {
+    TodoCursor cursor = new TodoCursor(Instant.parse("2024-10-01T10:15:30.123456Z"), 151L);
+
+    Assertions.assertThat(TodoCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void encodes_UrlSafeCursor_WithoutPadding() {
+    TodoCursor cursor = new TodoCursor(Instant.parse("2024-10-01T10:15:30Z"), 151L);
+
+    Assertions.assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+  }
+
+  @Test
+  void throws_TodoException_ForMalformedCursor() {
+    Assertions.assertThatThrownBy(() -> TodoCursor.decode("bm90LWEtY3Vyc29y"))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Cursor `bm90LWEtY3Vyc29y` is not valid");
+  }
+}
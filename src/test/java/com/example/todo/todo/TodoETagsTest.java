@@ -0,0 +1,43 @@
+package com.example.todo.todo;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.exception.PreconditionFailedException;
+
+public class TodoETagsTest {
+  private static final String ID = "01a14ded-8521-7000-b8fa-02ebf1b2d537";
+
+  @Test
+  void reads_Version_FromTodoTag() {
+    Assertions.assertThat(TodoETags.expectedVersion(ID, TodoETags.ofTodo(26, "[TITLE]"))).isEqualTo(26L);
+  }
+
+  @Test
+  void returns_Null_ForMissingOrWildcardIfMatch() {
+    Assertions.assertThat(TodoETags.expectedVersion(ID, null)).isNull();
+    Assertions.assertThat(TodoETags.expectedVersion(ID, "*")).isNull();
+  }
+
+  @Test
+  void rejects_CollectionTag() {
+    String listTag = TodoETags.ofList(26, 26, "unpaged", "[TITLE]");
+
+    Assertions.assertThatThrownBy(() -> TodoETags.expectedVersion(ID, listTag))
+      .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void rejects_WeakAndMalformedTags() {
+    String todoTag = TodoETags.ofTodo(26, "[TITLE]");
+
+    Assertions.assertThatThrownBy(() -> TodoETags.expectedVersion(ID, "W/" + todoTag)).isInstanceOf(PreconditionFailedException.class);
+    Assertions.assertThatThrownBy(() -> TodoETags.expectedVersion(ID, "\"t1a-\"")).isInstanceOf(PreconditionFailedException.class);
+    Assertions.assertThatThrownBy(() -> TodoETags.expectedVersion(ID, "\"tffffffffffffffff-00000000\"")).isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void separates_ListTags_OfUsersAtSameVersion() {
+    Assertions.assertThat(TodoETags.ofList(1, 3, "unpaged", "[TITLE]")).isNotEqualTo(TodoETags.ofList(2, 3, "unpaged", "[TITLE]"));
+  }
+}
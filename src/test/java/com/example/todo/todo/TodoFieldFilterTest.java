@@ -0,0 +1,46 @@
+package com.example.todo.todo;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.example.todo.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TodoFieldFilterTest {
+  private final UUID uuid = UUID.fromString("0190f1c2-7b3a-7cde-8f00-1234567890ab");
+  private final TodoResponseDto todo = new TodoResponseDto(uuid, "demo todo", Status.PENDING, null, null);
+
+  private ObjectMapper objectMapper() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    new JacksonConfig().todoFieldFilterCustomizer().customize(builder);
+    return builder.build();
+  }
+
+  private String write(MappingJacksonValue value) throws JsonProcessingException {
+    // Like Spring's Jackson converters, which only replace the configured filters when the value has its own.
+    ObjectMapper objectMapper = objectMapper();
+    return (value.getFilters() == null ? objectMapper.writer() : objectMapper.writer(value.getFilters())).writeValueAsString(value.getValue());
+  }
+
+  @Test
+  void write_NullProperties_WhenAllFieldsAreSelected() throws JsonProcessingException {
+    String expected = "{\"uuid\":\"" + uuid + "\",\"title\":\"demo todo\",\"status\":\"PENDING\",\"createdAt\":null,\"updatedAt\":null}";
+
+    Assertions.assertThat(objectMapper().writeValueAsString(todo)).isEqualTo(expected);
+    Assertions.assertThat(write(TodoFieldFilter.select(todo, EnumSet.allOf(TodoField.class)))).isEqualTo(expected);
+  }
+
+  @Test
+  void write_OnlySelectedProperties_IncludingNullOnes() throws JsonProcessingException {
+    MappingJacksonValue value = TodoFieldFilter.select(List.of(todo), EnumSet.of(TodoField.TITLE, TodoField.UPDATED_AT));
+
+    Assertions.assertThat(write(value)).isEqualTo("[{\"title\":\"demo todo\",\"updatedAt\":null}]");
+  }
+}
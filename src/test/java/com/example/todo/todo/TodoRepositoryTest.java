@@ -1,9 +1,18 @@
 package com.example.todo.todo;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.sql.DataSource;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,17 +20,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import com.example.todo.TestUtils;
+import com.example.todo.config.JpaAuditingConfig;
+import com.example.todo.user.UserRepository;
 
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
+@Import(JpaAuditingConfig.class)
 public class TodoRepositoryTest extends TestUtils {
   @Container
   @ServiceConnection
@@ -30,8 +50,21 @@ public class TodoRepositoryTest extends TestUtils {
   @Autowired
   private TodoRepository todoRepository;
 
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   @BeforeEach
   void setup() {
+    userRepository.save(VALID_USER);
     todoRepository.save(TODO);
   }
 
@@ -62,6 +95,56 @@ public class TodoRepositoryTest extends TestUtils {
     Assertions.assertThat(todos.size()).isEqualTo(0);
   }
 
+  @Test
+  void returns_TodoPage_ForValidUser() {
+    Todo second = todoRepository.save(Todo.builder()
+      .uuid(UUID.randomUUID())
+      .title("Second Todo of the List.")
+      .status(Status.COMPLETED)
+      .user(VALID_USER)
+      .build());
+
+    TodoPageDto first = todoRepository.findPage(VALID_USER.getId(), null, null, Sort.Direction.ASC, 1, EnumSet.allOf(TodoField.class));
+
+    Assertions.assertThat(first.todos()).extracting(TodoResponseDto::uuid).containsExactly(VALID_TODO_UUID);
+    Assertions.assertThat(first.nextCursor()).isNotNull();
+
+    TodoPageDto last = todoRepository.findPage(VALID_USER.getId(), null, TodoCursor.decode(first.nextCursor()), Sort.Direction.ASC, 1, EnumSet.allOf(TodoField.class));
+
+    Assertions.assertThat(last.todos()).extracting(TodoResponseDto::uuid).containsExactly(second.getUuid());
+    Assertions.assertThat(last.nextCursor()).isNull();
+  }
+
+  @Test
+  void returns_EmptyPage_ForOtherStatus() {
+    TodoPageDto page = todoRepository.findPage(VALID_USER.getId(), Status.COMPLETED, null, Sort.Direction.DESC, 10, EnumSet.allOf(TodoField.class));
+
+    Assertions.assertThat(page.todos()).isEmpty();
+    Assertions.assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void returns_TodoDto_ForValidUser() {
+    List<TodoResponseDto> todos = todoRepository.findDtoByUserId(VALID_USER.getId());
+
+    Assertions.assertThat(todos).hasSize(1);
+    Assertions.assertThat(todos.get(0).uuid()).isEqualTo(VALID_TODO_UUID);
+    Assertions.assertThat(todos.get(0).createdAt()).isNotNull();
+    Assertions.assertThat(todoRepository.findDtoByUuid(VALID_USER.getId(), VALID_TODO_UUID)).contains(todos.get(0));
+    Assertions.assertThat(todoRepository.findDtoByUuid(VALID_USER.getId() + 1, VALID_TODO_UUID)).isEmpty();
+    Assertions.assertThat(todoRepository.findVersionByUuid(VALID_USER.getId() + 1, VALID_TODO_UUID)).isEmpty();
+  }
+
+  @Test
+  void returns_OnlySelectedFields_ForSparseFieldset() {
+    List<TodoResponseDto> todos = todoRepository.findFieldsByUserId(VALID_USER.getId(), EnumSet.of(TodoField.TITLE));
+    Optional<TodoResponseDto> todo = todoRepository.findFieldsByUuid(VALID_USER.getId(), VALID_TODO_UUID, EnumSet.of(TodoField.UUID, TodoField.STATUS));
+
+    Assertions.assertThat(todos).containsExactly(new TodoResponseDto(null, TODO.getTitle(), null, null, null));
+    Assertions.assertThat(todo).contains(new TodoResponseDto(VALID_TODO_UUID, null, Status.PENDING, null, null));
+    Assertions.assertThat(todoRepository.findFieldsByUuid(VALID_USER.getId() + 1, VALID_TODO_UUID, EnumSet.of(TodoField.UUID))).isEmpty();
+  }
+
   @Test
   void returns_TodoOptional_ForValidUuid() {
     Optional<Todo> todo = todoRepository.findByUuid(VALID_TODO_UUID);
@@ -72,9 +155,111 @@ public class TodoRepositoryTest extends TestUtils {
 
   @Test
   void returns_EmptyOptional_ForInvalidUuid() {
-    String uuid = UUID.randomUUID().toString();
+    UUID uuid = UUID.randomUUID();
     Optional<Todo> todo = todoRepository.findByUuid(uuid);
 
     Assertions.assertThat(todo).isEmpty();
   }
+
+  @Test
+  void keeps_UserAndOtherTodos_WhenTodoIsDeleted() {
+    Todo other = todoRepository.save(Todo.builder().uuid(UUID.randomUUID()).title("Second Todo of the List.").status(Status.PENDING).user(VALID_USER).build());
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // Loaded on its own like the delete endpoint does, so the other todo is not in the persistence context.
+    todoRepository.delete(todoRepository.findByUuid(VALID_TODO_UUID).orElseThrow());
+    entityManager.flush();
+    entityManager.clear();
+
+    Assertions.assertThat(userRepository.findById(VALID_USER.getId())).isPresent();
+    Assertions.assertThat(todoRepository.findByUser(VALID_USER)).extracting(Todo::getUuid).containsExactly(other.getUuid());
+  }
+
+  @Test
+  void updates_StatusOfMatchingTodos_AndReturnsCount() {
+    Instant updatedAt = Instant.now();
+
+    Assertions.assertThat(todoRepository.updateStatus(VALID_USER.getId(), Status.COMPLETED, Status.CANCLE, updatedAt)).isEqualTo(0);
+    Assertions.assertThat(todoRepository.updateStatusCreatedBefore(VALID_USER.getId(), Status.PENDING, Status.CANCLE, TODO.getCreatedAt(), updatedAt)).isEqualTo(0);
+    Assertions.assertThat(todoRepository.updateStatus(VALID_USER.getId(), Status.PENDING, Status.COMPLETED, updatedAt)).isEqualTo(1);
+    Assertions.assertThat(todoRepository.findByUuid(VALID_TODO_UUID).get().getStatus()).isEqualTo(Status.COMPLETED);
+  }
+
+  @Test
+  void returns_UpdatedTodo_ForStatusChangeByUuid() {
+    todoRepository.flush();
+    Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    Optional<TodoResponseDto> todo = todoRepository.updateStatusByUuid(VALID_USER.getId(), VALID_TODO_UUID, Status.COMPLETED, null, updatedAt);
+
+    Assertions.assertThat(todo).isPresent();
+    Assertions.assertThat(todo.get().status()).isEqualTo(Status.COMPLETED);
+    Assertions.assertThat(todo.get().createdAt()).isNotNull();
+    Assertions.assertThat(todo.get().updatedAt()).isEqualTo(updatedAt);
+    Assertions.assertThat(todoRepository.updateStatusByUuid(VALID_USER.getId(), UUID.randomUUID(), Status.COMPLETED, null, updatedAt)).isEmpty();
+  }
+
+  @Test
+  void leaves_Status_OfOtherUsersTodo() {
+    todoRepository.flush();
+
+    Assertions.assertThat(todoRepository.updateStatusByUuid(VALID_USER.getId() + 1, VALID_TODO_UUID, Status.COMPLETED, null, Instant.now())).isEmpty();
+    Assertions.assertThat(todoRepository.existsByUserIdAndUuid(VALID_USER.getId() + 1, VALID_TODO_UUID)).isFalse();
+    Assertions.assertThat(todoRepository.findByUuid(VALID_TODO_UUID).orElseThrow().getStatus()).isEqualTo(Status.PENDING);
+  }
+
+  @Test
+  void updates_Status_OnlyForExpectedVersion() {
+    todoRepository.flush();
+    TodoVersion version = todoRepository.findVersionByUuid(VALID_USER.getId(), VALID_TODO_UUID).orElseThrow();
+
+    Assertions.assertThat(todoRepository.updateStatusByUuid(VALID_USER.getId(), VALID_TODO_UUID, Status.COMPLETED, version.version() + 1, Instant.now())).isEmpty();
+    Assertions.assertThat(todoRepository.updateStatusByUuid(VALID_USER.getId(), VALID_TODO_UUID, Status.COMPLETED, version.version(), Instant.now())).isPresent();
+    Assertions.assertThat(todoRepository.updateStatusByUuid(VALID_USER.getId(), VALID_TODO_UUID, Status.CANCLE, version.version(), Instant.now())).isEmpty();
+    Assertions.assertThat(todoRepository.findVersionByUuid(VALID_USER.getId(), VALID_TODO_UUID).orElseThrow().version()).isEqualTo(version.version() + 1);
+  }
+
+  @Test
+  void bumps_ListVersion_OnTodoChanges() {
+    todoRepository.flush();
+    TodoVersion created = todoRepository.findListVersion(VALID_USER.getId());
+
+    Assertions.assertThat(created.version()).isGreaterThan(0);
+    Assertions.assertThat(created.updatedAt()).isNotNull();
+
+    todoRepository.updateStatus(VALID_USER.getId(), Status.PENDING, Status.COMPLETED, Instant.now());
+    TodoVersion updated = todoRepository.findListVersion(VALID_USER.getId());
+
+    Assertions.assertThat(updated.version()).isGreaterThan(created.version());
+    Assertions.assertThat(updated.updatedAt()).isAfter(created.updatedAt());
+
+    todoRepository.updateStatus(VALID_USER.getId(), Status.PENDING, Status.CANCLE, Instant.now());
+
+    Assertions.assertThat(todoRepository.findListVersion(VALID_USER.getId()).version()).isEqualTo(updated.version());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void leaves_UserRowUnlocked_WhileTodoWriteIsPending() {
+    try {
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        todoRepository.updateStatus(VALID_USER.getId(), Status.PENDING, Status.COMPLETED, Instant.now());
+
+        // What a login or profile update of the same user takes while the todo transaction is still open.
+        try (Connection other = dataSource.getConnection(); PreparedStatement statement = other.prepareStatement("select id from app_user where id = ? for no key update nowait")) {
+          statement.setLong(1, VALID_USER.getId());
+          try (ResultSet rs = statement.executeQuery()) {
+            Assertions.assertThat(rs.next()).isTrue();
+          }
+        } catch (SQLException e) {
+          throw new AssertionError("User row is locked by the pending todo write", e);
+        }
+      });
+    } finally {
+      new JdbcTemplate(dataSource).update("delete from todo_list where app_user_id = ?", VALID_USER.getId());
+      new JdbcTemplate(dataSource).update("delete from app_user where id = ?", VALID_USER.getId());
+    }
+  }
 }
@@ -1,12 +1,17 @@
 package com.example.todo.todo;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,8 +21,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.example.todo.auth.AuthService;
+import com.example.todo.exception.PreconditionFailedException;
 import com.example.todo.exception.TodoException;
 import com.example.todo.shared.UuidGenerator;
 import com.example.todo.user.User;
@@ -25,6 +33,8 @@ import com.example.todo.user.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
+  private static final UUID TODO_UUID = UUID.fromString("0191e5a4-6d7b-7cc2-8a55-3c1f0f2b9e11");
+
   @Mock
   private TodoRepository todoRepository;
 
@@ -52,28 +62,92 @@ public class TodoServiceTest {
 
   @Test
   void returns_ListOfTodos_ForValidUser() {
-    User user = new User(100L, "random-uuid", "encoded-password", "jhondoe@test.in");
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
 
     when(authService.getCurrentUser()).thenReturn(Optional.of(user));
-    todoServcie.getTodos();
+    todoServcie.getTodos(null);
 
     verify(authService, times(1)).getCurrentUser();
-    verify(todoRepository, times(1)).findByUser(user);
+    verify(todoRepository, times(1)).findDtoByUserId(user.getId());
+    verify(todoRepository, never()).findByUser(user);
+  }
+
+  @Test
+  void returns_SelectedFields_ForSparseFieldset() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    todoServcie.getTodos("uuid, title");
+
+    verify(todoRepository, times(1)).findFieldsByUserId(user.getId(), EnumSet.of(TodoField.UUID, TodoField.TITLE));
+    verify(todoRepository, never()).findDtoByUserId(user.getId());
+  }
+
+  @Test
+  void throws_TodoException_ForUnknownField() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodos("title,password"))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Unknown field `password`, expected any of uuid, title, status, createdAt, updatedAt");
   }
 
   @Test
   void throws_TodoException_ForInvalidUser() {
     when(authService.getCurrentUser()).thenReturn(Optional.empty());
-    Assertions.assertThatThrownBy(() -> todoServcie.getTodos())
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodos(null))
       .isInstanceOf(TodoException.class)
       .hasMessage("User is not authenticated");
   }
 
+  @Test
+  void returns_PageOfTodos_WithNextCursor() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    TodoCursor cursor = new TodoCursor(Instant.parse("2024-10-01T10:15:30Z"), 151L);
+    TodoPageDto expected = new TodoPageDto(List.of(new TodoResponseDto(TODO_UUID, "demo todo item in the list", Status.PENDING, null, null)), "next-cursor");
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.findPage(user.getId(), null, cursor, Sort.Direction.DESC, 1, EnumSet.allOf(TodoField.class))).thenReturn(expected);
+
+    TodoPageDto page = todoServcie.getTodos(cursor.encode(), 1, null, "desc", null);
+
+    Assertions.assertThat(page).isEqualTo(expected);
+  }
+
+  @Test
+  void returns_LastPage_WithoutNextCursor_ForStatus() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.findPage(user.getId(), Status.COMPLETED, null, Sort.Direction.ASC, TodoServcie.MAX_PAGE_SIZE, EnumSet.of(TodoField.TITLE))).thenReturn(new TodoPageDto(List.of(), null));
+
+    TodoPageDto page = todoServcie.getTodos(null, 10_000, Status.COMPLETED, "asc", "title");
+
+    Assertions.assertThat(page.todos()).isEmpty();
+    Assertions.assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void throws_TodoException_ForInvalidPageRequest() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodos(null, 0, null, "asc", null))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("limit must be greater than 0");
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodos(null, 10, null, "sideways", null))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("sort must be `asc` or `desc`, got `sideways`");
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodos("not-a-cursor", 10, null, "asc", null))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Cursor `not-a-cursor` is not valid");
+  }
+
   @Test
   void return_TodoResponseDto_SuccessfullyCreatedNewTodo() {
-    User user = new User(100L, "random-uuid", "encoded-password", "jhondoe@test.in");
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
     TodoRequestDto request = new TodoRequestDto("demo todo item in the list");
-    String uuid = "random-uuid";
+    UUID uuid = TODO_UUID;
 
     Todo todo = Todo.builder()
       .title(request.title())
@@ -83,7 +157,7 @@ public class TodoServiceTest {
       .build();
 
     when(authService.getCurrentUser()).thenReturn(Optional.of(user));
-    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId())).thenReturn(user);
     when(uuidGenerator.randomUUID()).thenReturn(uuid);
     when(todoRepository.save(any(Todo.class))).thenReturn(todo);
     when(todoDtoMapper.todoToDto(todo)).thenReturn(new TodoResponseDto(uuid, request.title(), Status.PENDING, null, null));
@@ -92,7 +166,7 @@ public class TodoServiceTest {
     TodoResponseDto response = todoServcie.addTodo(request);
 
     verify(authService, times(1)).getCurrentUser();
-    verify(userRepository, times(1)).findById(user.getId());
+    verify(userRepository, times(1)).getReferenceById(user.getId());
 
 
     Assertions.assertThat(response.uuid()).isEqualTo(uuid);
@@ -111,70 +185,156 @@ public class TodoServiceTest {
 
   @Test
   void returns_Todo_ForValidUuid() {
-    String uuid = "random-uuid";
-
-    Todo todo = Todo.builder()
-      .id(101L)
-      .title("demo todo item in the list")
-      .status(Status.PENDING)
-      .uuid("random-uuid")
-      .user(new User())
-      .build();
+    UUID uuid = TODO_UUID;
+    TodoResponseDto todo = new TodoResponseDto(uuid, "demo todo item in the list", Status.PENDING, null, null);
     
-    when(todoRepository.findByUuid(uuid)).thenReturn(Optional.of(todo));
-    when(todoDtoMapper.todoToDto(todo)).thenReturn(new TodoResponseDto(uuid, todo.getTitle(), todo.getStatus(), null, null));
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findDtoByUuid(100L, uuid)).thenReturn(Optional.of(todo));
 
-    TodoResponseDto todoDto = todoServcie.getTodo(uuid);
+    TodoResponseDto todoDto = todoServcie.getTodo(uuid.toString(), null);
 
-    verify(todoRepository, times(1)).findByUuid(uuid);
-    verify(todoDtoMapper, times(1)).todoToDto(todo);
+    verify(todoRepository, times(1)).findDtoByUuid(100L, uuid);
+    verify(todoRepository, never()).findByUuid(uuid);
     
     Assertions.assertThat(todoDto.uuid()).isEqualTo(uuid);
-    Assertions.assertThat(todoDto.title()).isEqualTo(todo.getTitle());
-    Assertions.assertThat(todoDto.status()).isEqualTo(todo.getStatus());
+    Assertions.assertThat(todoDto.title()).isEqualTo(todo.title());
+    Assertions.assertThat(todoDto.status()).isEqualTo(todo.status());
+  }
+
+  @Test
+  void returns_SelectedFields_OfTodo_ForSparseFieldset() {
+    UUID uuid = TODO_UUID;
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findFieldsByUuid(100L, uuid, EnumSet.of(TodoField.STATUS))).thenReturn(Optional.of(new TodoResponseDto(null, null, Status.PENDING, null, null)));
+
+    TodoResponseDto todoDto = todoServcie.getTodo(uuid.toString(), "status");
+
+    Assertions.assertThat(todoDto.status()).isEqualTo(Status.PENDING);
+    Assertions.assertThat(todoDto.title()).isNull();
   }
 
   @Test
   void throws_TodoException_ForInvalidTodoId_WhileFetching() {
-    when(todoRepository.findByUuid(anyString())).thenReturn(Optional.empty());
-    Assertions.assertThatThrownBy(() -> todoServcie.getTodo("random-uuid"))
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findDtoByUuid(eq(100L), any(UUID.class))).thenReturn(Optional.empty());
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodo(TODO_UUID.toString(), null))
       .isInstanceOf(TodoException.class)
-      .hasMessage(String.format("Todo with uuid=`%s` does not exist", "random-uuid"));
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));
+  }
+
+  @Test
+  void throws_TodoException_ForMalformedTodoId() {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodo("not-a-uuid", null))
+      .isInstanceOf(TodoException.class)
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", "not-a-uuid"));
+
+    verify(todoRepository, never()).findDtoByUuid(any(), any(UUID.class));
+  }
+
+  @Test
+  void returns_ListVersion_ForValidUser() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    TodoVersion version = new TodoVersion(3, Instant.now());
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.findListVersion(user.getId())).thenReturn(version);
+
+    Assertions.assertThat(todoServcie.getTodosVersion()).isEqualTo(version);
+    verify(todoRepository, never()).findDtoByUserId(any());
+  }
+
+  @Test
+  void returns_Version_ForValidUuid() {
+    TodoVersion version = new TodoVersion(2, Instant.now());
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findVersionByUuid(100L, TODO_UUID)).thenReturn(Optional.of(version));
+
+    Assertions.assertThat(todoServcie.getTodoVersion(TODO_UUID.toString())).isEqualTo(version);
+    verify(todoRepository, never()).findDtoByUuid(any(), any(UUID.class));
+  }
+
+  @Test
+  void throws_TodoException_ForInvalidTodoId_WhileCheckingVersion() {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findVersionByUuid(100L, TODO_UUID)).thenReturn(Optional.empty());
+
+    Assertions.assertThatThrownBy(() -> todoServcie.getTodoVersion(TODO_UUID.toString()))
+      .isInstanceOf(TodoException.class)
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));
   }
 
   @Test
   void return_UpdatedTodoResponseDto_ForStatusChange() {
-    Todo todo = Todo.builder()
-      .id(101L)
-      .title("demo todo item in the list")
-      .status(Status.PENDING)
-      .uuid("random-uuid")
-      .user(new User())
-      .build();
-    
-    String uuid = "random-uuid";
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    UUID uuid = TODO_UUID;
     Status status = Status.COMPLETED;
 
-    when(todoRepository.findByUuid(uuid)).thenReturn(Optional.of(todo));
-    when(todoRepository.save(any(Todo.class))).thenReturn(todo);
-    when(todoDtoMapper.todoToDto(todo)).thenReturn(new TodoResponseDto(uuid, todo.getTitle(), status, null, null));
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.updateStatusByUuid(eq(user.getId()), eq(uuid), eq(status), eq(null), any(Instant.class))).thenReturn(Optional.of(new TodoResponseDto(uuid, "demo todo item in the list", status, null, Instant.now())));
     
-    TodoResponseDto todoDto = todoServcie.update(uuid, Status.COMPLETED);
+    TodoResponseDto todoDto = todoServcie.update(uuid.toString(), Status.COMPLETED, null);
 
-    verify(todoRepository, times(1)).findByUuid(uuid);
-    verify(todoDtoMapper, times(1)).todoToDto(todo);
+    verify(todoRepository, never()).findByUuid(uuid);
+    verify(todoRepository, never()).save(any(Todo.class));
     
     Assertions.assertThat(todoDto.uuid()).isEqualTo(uuid);
-    Assertions.assertThat(todoDto.title()).isEqualTo(todo.getTitle());
     Assertions.assertThat(todoDto.status()).isEqualTo(status);
+    Assertions.assertThat(todoDto.updatedAt()).isNotNull();
   }
 
   @Test
   void throws_TodoException_ForInvalidTodoId_ForStatusChange() {
-    when(todoRepository.findByUuid(anyString())).thenReturn(Optional.empty());
-    Assertions.assertThatThrownBy(() -> todoServcie.update("random-uuid", Status.COMPLETED))
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.updateStatusByUuid(eq(100L), any(UUID.class), any(Status.class), eq(null), any(Instant.class))).thenReturn(Optional.empty());
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), Status.COMPLETED, null))
       .isInstanceOf(TodoException.class)
-      .hasMessage(String.format("Todo with uuid=`%s` does not exist", "random-uuid"));
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));
+  }
+
+  @Test
+  void throws_PreconditionFailedException_ForStaleVersion_ForStatusChange() {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.updateStatusByUuid(eq(100L), eq(TODO_UUID), eq(Status.COMPLETED), eq(3L), any(Instant.class))).thenReturn(Optional.empty());
+    when(todoRepository.existsByUserIdAndUuid(100L, TODO_UUID)).thenReturn(true);
+
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), Status.COMPLETED, 3L))
+      .isInstanceOf(PreconditionFailedException.class)
+      .hasMessage(String.format("Todo with uuid=`%s` was modified, fetch it again and retry", TODO_UUID));
+  }
+
+  @Test
+  void throws_TodoException_ForOtherUsersTodo_WithIfMatch_ForStatusChange() {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.updateStatusByUuid(eq(100L), eq(TODO_UUID), eq(Status.COMPLETED), eq(3L), any(Instant.class))).thenReturn(Optional.empty());
+    when(todoRepository.existsByUserIdAndUuid(100L, TODO_UUID)).thenReturn(false);
+
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), Status.COMPLETED, 3L))
+      .isInstanceOf(TodoException.class)
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));
+  }
+
+  @Test
+  void returns_UpdatedCount_ForStatusTransition() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    Instant createdBefore = Instant.now();
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(todoRepository.updateStatus(eq(user.getId()), eq(Status.PENDING), eq(Status.COMPLETED), any(Instant.class))).thenReturn(3);
+    when(todoRepository.updateStatusCreatedBefore(eq(user.getId()), eq(Status.PENDING), eq(Status.CANCLE), eq(createdBefore), any(Instant.class))).thenReturn(2);
+
+    Assertions.assertThat(todoServcie.transition(new TodoTransitionRequestDto(Status.PENDING, Status.COMPLETED, null)).updated()).isEqualTo(3);
+    Assertions.assertThat(todoServcie.transition(new TodoTransitionRequestDto(Status.PENDING, Status.CANCLE, createdBefore)).updated()).isEqualTo(2);
+  }
+
+  @Test
+  void throws_TodoException_ForIncompleteTransition() {
+    User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+
+    Assertions.assertThatThrownBy(() -> todoServcie.transition(new TodoTransitionRequestDto(Status.PENDING, null, null)))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("from and to status are required");
   }
 
   @Test
@@ -183,20 +343,21 @@ public class TodoServiceTest {
       .id(101L)
       .title("demo todo item in the list")
       .status(Status.PENDING)
-      .uuid("random-uuid")
+      .uuid(TODO_UUID)
       .user(new User())
       .build();
     
-    String uuid = "random-uuid";
+    UUID uuid = TODO_UUID;
     TodoRequestDto request = new TodoRequestDto("updated title todo");
 
-    when(todoRepository.findByUuid(uuid)).thenReturn(Optional.of(todo));
-    when(todoRepository.save(any(Todo.class))).thenReturn(todo);
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(100L, uuid)).thenReturn(Optional.of(todo));
+    when(todoRepository.saveAndFlush(any(Todo.class))).thenReturn(todo);
     when(todoDtoMapper.todoToDto(todo)).thenReturn(new TodoResponseDto(uuid, request.title(), todo.getStatus(), null, null));
     
-    TodoResponseDto todoDto = todoServcie.update(uuid, request);
+    TodoResponseDto todoDto = todoServcie.update(uuid.toString(), request, null);
 
-    verify(todoRepository, times(1)).findByUuid(uuid);
+    verify(todoRepository, times(1)).findByUserIdAndUuid(100L, uuid);
     verify(todoDtoMapper, times(1)).todoToDto(todo);
     
     Assertions.assertThat(todoDto.uuid()).isEqualTo(uuid);
@@ -206,33 +367,61 @@ public class TodoServiceTest {
 
   @Test
   void throws_TodoException_ForInvalidTodoId_ForTitleChange() {
-    when(todoRepository.findByUuid(anyString())).thenReturn(Optional.empty());
-    Assertions.assertThatThrownBy(() -> todoServcie.update("random-uuid", new TodoRequestDto("updated title")))
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(eq(100L), any(UUID.class))).thenReturn(Optional.empty());
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), new TodoRequestDto("updated title"), null))
       .isInstanceOf(TodoException.class)
-      .hasMessage(String.format("Todo with uuid=`%s` does not exist", "random-uuid"));
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));
+  }
+
+  @Test
+  void throws_PreconditionFailedException_ForStaleVersion_ForTitleChange() {
+    Todo todo = Todo.builder().id(101L).uuid(TODO_UUID).title("demo todo item in the list").status(Status.PENDING).version(4L).build();
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(100L, TODO_UUID)).thenReturn(Optional.of(todo));
+
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), new TodoRequestDto("updated title"), 3L))
+      .isInstanceOf(PreconditionFailedException.class);
+
+    verify(todoRepository, never()).saveAndFlush(any(Todo.class));
+  }
+
+  @Test
+  void throws_PreconditionFailedException_ForConcurrentTitleChange() {
+    Todo todo = Todo.builder().id(101L).uuid(TODO_UUID).title("demo todo item in the list").status(Status.PENDING).version(3L).build();
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(100L, TODO_UUID)).thenReturn(Optional.of(todo));
+    when(todoRepository.saveAndFlush(todo)).thenThrow(new ObjectOptimisticLockingFailureException(Todo.class, 101L));
+
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), new TodoRequestDto("updated title"), 3L))
+      .isInstanceOf(PreconditionFailedException.class);
+    Assertions.assertThatThrownBy(() -> todoServcie.update(TODO_UUID.toString(), new TodoRequestDto("updated title"), null))
+      .isInstanceOf(ObjectOptimisticLockingFailureException.class);
   }
 
   @Test
   void delete_TodoById() {
-    String uuid = "random-uuid";
+    UUID uuid = TODO_UUID;
     Todo todo = Todo.builder()
       .id(101L)
       .title("demo todo item in the list")
       .status(Status.PENDING)
-      .uuid("random-uuid")
+      .uuid(TODO_UUID)
       .user(new User())
       .build();
 
-    when(todoRepository.findByUuid(uuid)).thenReturn(Optional.of(todo));
-    todoServcie.delete(uuid);
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(100L, uuid)).thenReturn(Optional.of(todo));
+    todoServcie.delete(uuid.toString());
     verify(todoRepository).delete(todo);
   }
 
   @Test
   void throws_TodoException_ForInvalidId_WhenDelete() {
-    when(todoRepository.findByUuid(anyString())).thenReturn(Optional.empty());
-    Assertions.assertThatThrownBy(() -> todoServcie.delete("random-uuid"))
+    when(authService.getCurrentUser()).thenReturn(Optional.of(new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in")));
+    when(todoRepository.findByUserIdAndUuid(eq(100L), any(UUID.class))).thenReturn(Optional.empty());
+    Assertions.assertThatThrownBy(() -> todoServcie.delete(TODO_UUID.toString()))
       .isInstanceOf(TodoException.class)
-      .hasMessage(String.format("Todo with uuid=`%s` does not exist", "random-uuid"));;
+      .hasMessage(String.format("Todo with uuid=`%s` does not exist", TODO_UUID));;
   }
 }
@@ -0,0 +1,194 @@
+package com.example.todo.todo;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.todo.auth.AuthService;
+import com.example.todo.exception.TodoException;
+import com.example.todo.shared.UuidGenerator;
+import com.example.todo.user.User;
+import com.example.todo.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoTransferServiceTest {
+  @Mock
+  private TodoRepository todoRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private UuidGenerator uuidGenerator;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Captor
+  private ArgumentCaptor<Todo> todoCaptor;
+
+  private ObjectMapper objectMapper;
+  private TodoTransferService todoTransferService;
+
+  private final User user = new User(100L, UUID.randomUUID(), "encoded-password", "jhondoe@test.in");
+
+  @BeforeEach
+  void setup() {
+    this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    this.todoTransferService = new TodoTransferService(todoRepository, userRepository, authService, uuidGenerator, objectMapper, entityManager, transactionManager);
+  }
+
+  @Test
+  void writes_OneJsonLine_PerTodo() throws IOException {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    UUID firstUuid = UUID.randomUUID();
+    when(todoRepository.streamByUserId(user.getId())).thenReturn(Stream.of(
+      new TodoResponseDto(firstUuid, "first todo", Status.PENDING, null, null),
+      new TodoResponseDto(UUID.randomUUID(), "second todo", Status.COMPLETED, null, null)
+    ));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long count = todoTransferService.exportTodos(outputStream);
+
+    List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    Assertions.assertThat(count).isEqualTo(2);
+    Assertions.assertThat(lines).hasSize(2);
+    Assertions.assertThat(lines.get(0)).contains("\"uuid\":\"" + firstUuid + "\"").contains("\"status\":\"PENDING\"");
+    Assertions.assertThat(lines.get(1)).contains("\"title\":\"second todo\"");
+  }
+
+  @Test
+  void writes_NewlineDelimitedJson_WithoutSeparatorBeforeLines() throws IOException {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    List<TodoResponseDto> todos = List.of(
+      new TodoResponseDto(UUID.randomUUID(), "first todo", Status.PENDING, null, null),
+      new TodoResponseDto(UUID.randomUUID(), "second todo", Status.PENDING, null, null),
+      new TodoResponseDto(UUID.randomUUID(), "third todo", Status.COMPLETED, null, null)
+    );
+    when(todoRepository.streamByUserId(user.getId())).thenReturn(todos.stream());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    todoTransferService.exportTodos(outputStream);
+
+    StringBuilder expected = new StringBuilder();
+    for (TodoResponseDto todo : todos) {
+      expected.append(objectMapper.writeValueAsString(todo)).append('\n');
+    }
+    Assertions.assertThat(outputStream.toByteArray()).isEqualTo(expected.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void persists_EachLine_AndFlushesInBatches() throws IOException {
+    StringBuilder body = new StringBuilder("{\"title\":\"completed todo\",\"status\":\"COMPLETED\",\"uuid\":\"ignored\"}\n\n");
+    for (int i = 1; i < TodoTransferService.IMPORT_BATCH_SIZE; i++) {
+      body.append("{\"title\":\"todo ").append(i).append("\"}\n");
+    }
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+    when(uuidGenerator.randomUUID()).thenReturn(UUID.randomUUID());
+
+    TodoImportResponseDto response = todoTransferService.importTodos(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+    verify(entityManager, times(TodoTransferService.IMPORT_BATCH_SIZE)).persist(todoCaptor.capture());
+    verify(entityManager, times(1)).flush();
+    verify(entityManager, times(1)).clear();
+    verify(transactionManager, times(1)).commit(any());
+
+    Assertions.assertThat(response.imported()).isEqualTo(TodoTransferService.IMPORT_BATCH_SIZE);
+    Assertions.assertThat(todoCaptor.getAllValues().get(0).getStatus()).isEqualTo(Status.COMPLETED);
+    Assertions.assertThat(todoCaptor.getAllValues().get(1).getStatus()).isEqualTo(Status.PENDING);
+    Assertions.assertThat(todoCaptor.getAllValues().get(1).getUser()).isEqualTo(user);
+  }
+
+  @Test
+  void commits_EachBatch_InItsOwnTransaction() throws IOException {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+    when(uuidGenerator.randomUUID()).thenReturn(UUID.randomUUID());
+
+    TodoImportResponseDto response = todoTransferService.importTodos(todoLines(TodoTransferService.IMPORT_BATCH_SIZE + 1, ""));
+
+    Assertions.assertThat(response.imported()).isEqualTo(TodoTransferService.IMPORT_BATCH_SIZE + 1);
+    verify(transactionManager, times(2)).getTransaction(any());
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  void imports_LinesBeforeMalformedLine_AndReportsIt() throws IOException {
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+    when(uuidGenerator.randomUUID()).thenReturn(UUID.randomUUID());
+
+    TodoImportResponseDto response = todoTransferService.importTodos(todoLines(TodoTransferService.IMPORT_BATCH_SIZE + 1, "not json\n{\"title\":\"after\"}\n"));
+
+    Assertions.assertThat(response.imported()).isEqualTo(TodoTransferService.IMPORT_BATCH_SIZE + 1);
+    Assertions.assertThat(response.failedLine()).isEqualTo(TodoTransferService.IMPORT_BATCH_SIZE + 2);
+    Assertions.assertThat(response.error()).isEqualTo("Line %d is not a valid todo", TodoTransferService.IMPORT_BATCH_SIZE + 2);
+    verify(entityManager, times(TodoTransferService.IMPORT_BATCH_SIZE + 1)).persist(any(Todo.class));
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  private ByteArrayInputStream todoLines(int count, String trailer) {
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      body.append("{\"title\":\"todo ").append(i).append("\"}\n");
+    }
+    return new ByteArrayInputStream(body.append(trailer).toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void throws_TodoException_ForMalformedFirstLine() {
+    String body = "\nnot json\n{\"title\":\"second todo\"}\n";
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+
+    Assertions.assertThatThrownBy(() -> todoTransferService.importTodos(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Line 2 is not a valid todo");
+    verify(transactionManager, never()).getTransaction(any());
+  }
+
+  @Test
+  void throws_TodoException_ForBlankTitle() {
+    String body = "{\"status\":\"PENDING\"}\n";
+
+    when(authService.getCurrentUser()).thenReturn(Optional.of(user));
+
+    Assertions.assertThatThrownBy(() -> todoTransferService.importTodos(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+      .isInstanceOf(TodoException.class)
+      .hasMessage("Line 1 has a blank title");
+    verify(entityManager, never()).persist(todoCaptor.capture());
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.todo.tracing;
+
+import java.io.IOException;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+public class SlowRequestFilterTest {
+  private final SlowRequestLog slowRequestLog = new SlowRequestLog(10);
+
+  private FilterChain sleeping(long millis) {
+    return (request, response) -> {
+      ((MockHttpServletRequest) request).setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todo-api/v1/todo");
+      RequestTrace.user("8d0c6b5e-6f1a-4d7e-9c55-1f0b6a7f3c21");
+      RequestTrace.begin(Phase.AUTHENTICATION);
+      RequestTrace.end(Phase.AUTHENTICATION);
+      RequestTrace.begin(Phase.SQL);
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      RequestTrace.end(Phase.SQL);
+    };
+  }
+
+  @Test
+  void capture_Breakdown_OfSlowRequest() throws ServletException, IOException {
+    SlowRequestFilter filter = new SlowRequestFilter(5, slowRequestLog);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), sleeping(20));
+
+    Assertions.assertThat(slowRequestLog.recent()).singleElement().satisfies(request -> {
+      Assertions.assertThat(request.endpoint()).isEqualTo("GET /todo-api/v1/todo");
+      Assertions.assertThat(request.status()).isEqualTo(200);
+      Assertions.assertThat(request.user()).isEqualTo("8d0c6b5e-6f1a-4d7e-9c55-1f0b6a7f3c21");
+      Assertions.assertThat(request.durationMillis()).isGreaterThanOrEqualTo(20);
+      Assertions.assertThat(request.phaseMillis()).containsOnlyKeys(Phase.AUTHENTICATION, Phase.SQL);
+      Assertions.assertThat(request.phaseMillis().get(Phase.SQL)).isGreaterThanOrEqualTo(20);
+    });
+  }
+
+  @Test
+  void skip_FastRequest() throws ServletException, IOException {
+    SlowRequestFilter filter = new SlowRequestFilter(1000, slowRequestLog);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), sleeping(0));
+
+    Assertions.assertThat(slowRequestLog.recent()).isEmpty();
+  }
+
+  @Test
+  void reset_Trace_BetweenRequests() throws ServletException, IOException {
+    SlowRequestFilter filter = new SlowRequestFilter(5, slowRequestLog);
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), sleeping(20));
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/todo-api/v1/todo"), new MockHttpServletResponse(), (request, response) -> {
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    Assertions.assertThat(slowRequestLog.recent().get(0).phaseMillis()).isEmpty();
+    Assertions.assertThat(slowRequestLog.recent().get(0).user()).isNull();
+  }
+}
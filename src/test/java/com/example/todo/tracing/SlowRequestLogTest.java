@@ -0,0 +1,34 @@
+package com.example.todo.tracing;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SlowRequestLogTest {
+  private SlowRequest request(String requestId) {
+    return new SlowRequest(Instant.now(), requestId, "GET /todo-api/v1/todo", 200, null, 600, 2, Map.of());
+  }
+
+  @Test
+  void return_RecentRequests_NewestFirst() {
+    SlowRequestLog slowRequestLog = new SlowRequestLog(3);
+    slowRequestLog.add(request("1"));
+    slowRequestLog.add(request("2"));
+
+    Assertions.assertThat(slowRequestLog.recent()).extracting(SlowRequest::requestId).containsExactly("2", "1");
+    Assertions.assertThat(slowRequestLog.total()).isEqualTo(2);
+  }
+
+  @Test
+  void overwrite_OldestRequest_WhenFull() {
+    SlowRequestLog slowRequestLog = new SlowRequestLog(3);
+    for (int i = 1; i <= 5; i++) {
+      slowRequestLog.add(request(String.valueOf(i)));
+    }
+
+    Assertions.assertThat(slowRequestLog.recent()).extracting(SlowRequest::requestId).containsExactly("5", "4", "3");
+    Assertions.assertThat(slowRequestLog.total()).isEqualTo(5);
+  }
+}
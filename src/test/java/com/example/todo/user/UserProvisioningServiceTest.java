@@ -0,0 +1,103 @@
+package com.example.todo.user;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+@SpringBootTest(properties = {"password.bcrypt-strength=4"})
+public class UserProvisioningServiceTest {
+  @Container
+  @ServiceConnection
+  private static PostgreSQLContainer<?> pSqlContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"));
+
+  @Autowired
+  private UserProvisioningService userProvisioningService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @AfterEach
+  void purge() {
+    userRepository.deleteAll();
+  }
+
+  private UserProvisioningReport provision(String csv) throws IOException {
+    return userProvisioningService.provision(new StringReader(csv));
+  }
+
+  @Test
+  void create_Users_ForValidLines() throws IOException {
+    UserProvisioningReport report = provision("""
+      email,password
+      jhondoe@test.in,Jhon@24
+      katedoe@test.in,"Kate,""24"
+      jhondoe@test.in,Other@24
+      not-an-email,Tim@24
+      timcook@test.in
+      """);
+
+    Assertions.assertThat(report.created()).isEqualTo(2);
+    Assertions.assertThat(report.duplicates()).isEqualTo(1);
+    Assertions.assertThat(report.invalid()).isEqualTo(2);
+
+    User jhon = userRepository.findByEmail("jhondoe@test.in").orElseThrow();
+    User kate = userRepository.findByEmail("katedoe@test.in").orElseThrow();
+    Assertions.assertThat(jhon.getUuid()).isNotNull().isNotEqualTo(kate.getUuid());
+    Assertions.assertThat(passwordEncoder.matches("Jhon@24", jhon.getPassword())).isTrue();
+    Assertions.assertThat(passwordEncoder.matches("Kate,\"24", kate.getPassword())).isTrue();
+  }
+
+  @Test
+  void skip_ExistingUsers_WhenRerun() throws IOException {
+    provision("jhondoe@test.in,Jhon@24\n");
+
+    UserProvisioningReport report = provision("jhondoe@test.in,Changed@24\nkatedoe@test.in,Kate@24\n");
+
+    Assertions.assertThat(report.created()).isEqualTo(1);
+    Assertions.assertThat(report.existing()).isEqualTo(1);
+    Assertions.assertThat(passwordEncoder.matches("Jhon@24", userRepository.findByEmail("jhondoe@test.in").orElseThrow().getPassword())).isTrue();
+  }
+
+  @Test
+  void keep_PasswordHashes_AsGiven() throws IOException {
+    String hash = new BCryptPasswordEncoder(4).encode("Jhon@24");
+
+    provision("jhondoe@test.in," + hash + "\n");
+
+    Assertions.assertThat(userRepository.findByEmail("jhondoe@test.in").orElseThrow().getPassword()).isEqualTo(hash);
+  }
+
+  @Test
+  void allocate_Ids_ThatDoNotCollide_WithJpa() throws IOException {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < UserProvisioningService.CHUNK_SIZE + 10; i++) {
+      csv.append("user").append(i).append("@test.in,$2a$04$").append("a".repeat(53)).append('\n');
+    }
+
+    UserProvisioningReport report = provision(csv.toString());
+    User saved = userRepository.save(User.builder().uuid(UUID.randomUUID()).email("jhondoe@test.in").password("encoded").build());
+
+    List<User> users = userRepository.findAll();
+    Assertions.assertThat(report.created()).isEqualTo(UserProvisioningService.CHUNK_SIZE + 10);
+    Assertions.assertThat(users).hasSize(UserProvisioningService.CHUNK_SIZE + 11);
+    Assertions.assertThat(users).extracting(User::getId).doesNotHaveDuplicates().contains(saved.getId());
+  }
+}
@@ -11,16 +11,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import com.example.todo.TestUtils;
+import com.example.todo.config.JpaAuditingConfig;
 
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
+@Import(JpaAuditingConfig.class)
 public class UserRepositoryTest extends TestUtils{
   @Container
   @ServiceConnection
@@ -65,7 +71,7 @@ public class UserRepositoryTest extends TestUtils{
 
   @Test
   void returns_UserOptional_ForExistingUuid() {
-    String uuid = VALID_USER_UUID;
+    UUID uuid = VALID_USER_UUID;
     Optional<User> _user = userRepository.findByUuid(uuid);
 
     Assertions.assertThat(_user).isPresent();
@@ -74,9 +80,22 @@ public class UserRepositoryTest extends TestUtils{
 
   @Test
   void returns_EmptyOptional_ForNonExistentUuid() {
-    String uuid = UUID.randomUUID().toString();
+    UUID uuid = UUID.randomUUID();
     Optional<User> _user = userRepository.findByUuid(uuid);
 
     Assertions.assertThat(_user).isEmpty();
   }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void throws_DataIntegrityViolationException_ForDuplicateEmail() {
+    User user = User.builder()
+      .uuid(UUID.randomUUID())
+      .email(VALID_EMAIL)
+      .password("encoded-password")
+      .build();
+
+    Assertions.assertThatThrownBy(() -> userRepository.saveAndFlush(user))
+      .isInstanceOf(DataIntegrityViolationException.class);
+  }
 }
@@ -1,10 +1,13 @@
 package com.example.todo.user;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.assertj.core.api.Assertions;
@@ -47,4 +50,14 @@ public class UserServiceTest extends TestUtils {
       .isInstanceOf(UsernameNotFoundException.class)
       .hasMessage(String.format("User with email=`%s` do not exist", INVALID_EMAIL));
   }
+
+  @Test
+  void store_UpgradedPassword_ForUser() {
+    User user = User.builder().email(VALID_EMAIL).password("$2a$04$old").build();
+
+    UserDetails _user = userService.updatePassword(user, "$2a$10$new");
+
+    verify(userRepository, times(1)).updatePassword(eq(VALID_EMAIL), eq("$2a$10$new"), any(Instant.class));
+    Assertions.assertThat(_user.getPassword()).isEqualTo("$2a$10$new");
+  }
 }